@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Build an application class-data-sharing (AppCDS) archive for the Spring app from a training run: the app is started
+# with the fast-startup profile, serves a few /opening-hours requests and is stopped, and every class it loaded is
+# archived. The archive only matches the JDK and classpath it was built with, so rebuild it after any change.
+#
+# Output (opening-hours-app/target/cds): application.jar, classpath.txt and app.jsa
+# Usage: bench/build-cds-archive.sh
+set -euo pipefail
+
+PORT=${PORT:-8080}
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+CDS_DIR="$ROOT_DIR/opening-hours-app/target/cds"
+MAIN_CLASS=com.amr.assignments.openinghoursrenderer.OpeningHoursRendererApplication
+
+cd "$ROOT_DIR"
+./mvnw -q -DskipTests -pl opening-hours-app -am package
+JAR=$(ls opening-hours-app/target/opening-hours-renderer-*.jar | grep -v original | head -n 1)
+
+# CDS only archives classes loaded from plain jars on the classpath (not from the nested jars of the fat jar, nor
+# from directories), so unpack the fat jar and re-pack the application classes into their own jar
+rm -rf "$CDS_DIR" && mkdir -p "$CDS_DIR/exploded"
+(cd "$CDS_DIR/exploded" && jar xf "$ROOT_DIR/$JAR")
+jar cf "$CDS_DIR/application.jar" -C "$CDS_DIR/exploded/BOOT-INF/classes" .
+CLASSPATH="$CDS_DIR/application.jar"
+for lib in "$CDS_DIR"/exploded/BOOT-INF/lib/*.jar; do
+  CLASSPATH="$CLASSPATH:$lib"
+done
+echo "$CLASSPATH" > "$CDS_DIR/classpath.txt"
+
+JAVA_VERSION=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${JAVA_VERSION%%.*}" -ge 13 ]; then
+  TRAINING_OPTS="-XX:ArchiveClassesAtExit=$CDS_DIR/app.jsa"
+else
+  TRAINING_OPTS="-Xshare:off -XX:DumpLoadedClassList=$CDS_DIR/classes.lst"
+fi
+
+java $TRAINING_OPTS -cp "$CLASSPATH" $MAIN_CLASS --server.port="$PORT" --spring.profiles.active=fast-startup \
+  > "$CDS_DIR/training.log" 2>&1 &
+PID=$!
+for _ in $(seq 1 240); do
+  if curl -s -o /dev/null -X POST "http://localhost:$PORT/opening-hours" \
+      -H "Content-Type: application/json" --data-binary @bench/opening-hours.json; then
+    break
+  fi
+  sleep 0.25
+done
+# exercise the request paths so their classes are loaded (and archived) too
+for _ in $(seq 1 50); do
+  curl -s -o /dev/null -X POST "http://localhost:$PORT/opening-hours" \
+    -H "Content-Type: application/json" --data-binary @bench/opening-hours.json
+  curl -s -o /dev/null -X POST "http://localhost:$PORT/opening-hours/validate" \
+    -H "Content-Type: application/json" --data-binary @bench/opening-hours.json
+  curl -s -o /dev/null -X POST "http://localhost:$PORT/opening-hours" \
+    -H "Content-Type: application/json" -d '{"monday":[{"type":"bla","value":-1}]}'
+done
+kill -TERM $PID
+wait $PID || true
+
+if [ ! -f "$CDS_DIR/app.jsa" ]; then
+  java -Xshare:dump -XX:SharedClassListFile="$CDS_DIR/classes.lst" -XX:SharedArchiveFile="$CDS_DIR/app.jsa" \
+    -cp "$CLASSPATH" > "$CDS_DIR/dump.log" 2>&1
+fi
+
+echo "CDS archive: $CDS_DIR/app.jsa"
+echo "Run with: java -XX:SharedArchiveFile=$CDS_DIR/app.jsa -cp \"\$(cat $CDS_DIR/classpath.txt)\" $MAIN_CLASS" \
+  "--spring.profiles.active=fast-startup"
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Run the same wrk load against the servlet (default) and reactive serving modes and append results to
+# bench_output.txt. Requires wrk (https://github.com/wg/wrk).
+#
+# Usage: bench/compare-serving-modes.sh [connections] [duration] [threads]
+set -euo pipefail
+
+CONNECTIONS=${1:-2000}
+DURATION=${2:-60s}
+THREADS=${3:-8}
+PORT=${PORT:-8080}
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+OUTPUT="$ROOT_DIR/bench_output.txt"
+
+cd "$ROOT_DIR"
+./mvnw -q -DskipTests package
+JAR=$(ls opening-hours-app/target/opening-hours-renderer-*.jar | grep -v original | head -n 1)
+
+wait_until_up() {
+  for _ in $(seq 1 120); do
+    if curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; then
+      return 0
+    fi
+    sleep 0.5
+  done
+  echo "application did not start" >&2
+  return 1
+}
+
+run_mode() {
+  local mode=$1
+  local profiles=$2
+  java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" > "opening-hours-app/target/bench-$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+  wait_until_up
+  # warm up, then measure
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d15s -s bench/opening-hours.lua "http://localhost:$PORT" > /dev/null
+  {
+    echo "=== $mode mode, $CONNECTIONS connections, $DURATION ($(date -u +%Y-%m-%dT%H:%M:%SZ))"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -s bench/opening-hours.lua "http://localhost:$PORT"
+    echo "threads: $(ps -o nlwp= -p $pid | tr -d ' ')"
+    echo "rss kb: $(ps -o rss= -p $pid | tr -d ' ')"
+  } | tee -a "$OUTPUT"
+  kill $pid
+  wait $pid 2>/dev/null || true
+}
+
+run_mode servlet default
+run_mode reactive reactive
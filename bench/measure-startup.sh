@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# Measure time to first successful POST /opening-hours response and time to ready (readiness probe UP, i.e. once JIT
+# warm-up is done), both from process launch, and resident memory (RSS) once ready, for each run mode, and append the
+# medians to bench/startup-history.csv so boot time is tracked over time. A load balancer only routes traffic once
+# ready, so that is the time that matters for scaling out; the first response only shows when the port opens.
+#
+# Modes: default (fat jar), fast-startup (lazy init profile), fast-startup-cds (plus the archive built by
+# bench/build-cds-archive.sh, skipped if missing) and launcher (core on the JDK HTTP server, no Spring).
+#
+# Usage: bench/measure-startup.sh [runs per mode]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+HISTORY="$ROOT_DIR/bench/startup-history.csv"
+CDS_DIR="$ROOT_DIR/opening-hours-app/target/cds"
+MAIN_CLASS=com.amr.assignments.openinghoursrenderer.OpeningHoursRendererApplication
+
+cd "$ROOT_DIR"
+./mvnw -q -DskipTests package
+APP_JAR=$(ls opening-hours-app/target/opening-hours-renderer-*.jar | grep -v original | head -n 1)
+LAUNCHER_JAR=$(ls opening-hours-launcher/target/opening-hours-launcher-*.jar | grep -v original | head -n 1)
+
+now_millis() {
+  date +%s%3N
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+# launch given command, poll until /opening-hours answers 200 then until ready (readiness probe UP, same as first
+# response if there is no probe, e.g. the launcher), and print "<first response ms> <ready ms> <rss kb>"
+measure_once() {
+  local start pid status first_response
+  start=$(now_millis)
+  "$@" > /dev/null 2>&1 &
+  pid=$!
+  while true; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/opening-hours" \
+      -H "Content-Type: application/json" --data-binary @bench/opening-hours.json || true)
+    if [ "$status" = "200" ]; then
+      break
+    fi
+    if ! kill -0 $pid 2>/dev/null; then
+      echo "process exited before serving: $*" >&2
+      return 1
+    fi
+    sleep 0.01
+  done
+  first_response=$(( $(now_millis) - start ))
+  while true; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health/readiness" || true)
+    if [ "$status" != "503" ]; then
+      break
+    fi
+    sleep 0.01
+  done
+  echo "$first_response $(( $(now_millis) - start )) $(ps -o rss= -p $pid | tr -d ' ')"
+  kill -TERM $pid
+  wait $pid 2>/dev/null || true
+}
+
+measure_mode() {
+  local mode=$1
+  shift
+  local results
+  results=$(for _ in $(seq 1 "$RUNS"); do measure_once "$@"; done)
+  local ttfr ttr rss
+  ttfr=$(echo "$results" | awk '{print $1}' | median)
+  ttr=$(echo "$results" | awk '{print $2}' | median)
+  rss=$(echo "$results" | awk '{print $3}' | median)
+  printf "%-18s time to first response: %6s ms   time to ready: %6s ms   rss: %8s kb\n" "$mode" "$ttfr" "$ttr" "$rss"
+  echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$(git rev-parse --short HEAD),$JAVA_VERSION,$mode,$RUNS,$ttfr,$ttr,$rss" \
+    >> "$HISTORY"
+}
+
+JAVA_VERSION=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.version =/ {print $2}')
+
+measure_mode default java -jar "$APP_JAR" --server.port="$PORT"
+measure_mode fast-startup java -jar "$APP_JAR" --server.port="$PORT" --spring.profiles.active=fast-startup
+if [ -f "$CDS_DIR/app.jsa" ]; then
+  measure_mode fast-startup-cds java -XX:SharedArchiveFile="$CDS_DIR/app.jsa" -Xshare:auto \
+    -cp "$(cat "$CDS_DIR/classpath.txt")" $MAIN_CLASS --server.port="$PORT" --spring.profiles.active=fast-startup
+else
+  echo "fast-startup-cds   skipped, run bench/build-cds-archive.sh first"
+fi
+measure_mode launcher java -Dopening-hours.port="$PORT" -jar "$LAUNCHER_JAR"
@@ -0,0 +1,8 @@
+-- wrk script posting the README example week to /opening-hours
+wrk.method = "POST"
+wrk.path = "/opening-hours"
+wrk.headers["Content-Type"] = "application/json;charset=UTF-8"
+wrk.body = '{"monday":[],"tuesday":[{"type":"open","value":36000},{"type":"close","value":64800}],' ..
+        '"wednesday":[],"thursday":[{"type":"open","value":37800},{"type":"close","value":64800}],' ..
+        '"friday":[{"type":"open","value":36000}],"saturday":[{"type":"close","value":3600},{"type":"open","value":36000}],' ..
+        '"sunday":[{"type":"close","value":3600},{"type":"open","value":43200},{"type":"close","value":75600}]}'
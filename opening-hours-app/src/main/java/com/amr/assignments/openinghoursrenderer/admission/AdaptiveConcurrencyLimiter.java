@@ -0,0 +1,271 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter that adapts its limit to observed latency (additive increase, multiplicative decrease): the
+ * limit grows while latency stays close to the best latency seen and shrinks as soon as requests start queueing up
+ * somewhere (latency above tolerance). Requests above the limit wait in a bounded queue for a short time, and are
+ * rejected right away once the queue is full.
+ * <p>
+ * Latency is compared per endpoint, as endpoints differ by orders of magnitude (a streamed export against a single
+ * render): each endpoint has its own best latency, and the limit is updated once per window of samples of an endpoint
+ * (from their average), not on every single sample. Releases never lock: samples are accumulated in atomic counters
+ * and the limit is updated by compare-and-set
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final int DEFAULT_SAMPLE_WINDOW = 20;
+    private static final int MIN_LATENCY_SAMPLES = 1000;
+    private static final long LATENCY_NOISE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String DEFAULT_ENDPOINT = "";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final int maxQueueDepth;
+    private final long maxQueueWaitNanos;
+    private final int sampleWindow;
+
+    // current limit, as the bits of a double
+    private final AtomicLong limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    public AdaptiveConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit,
+                                      final double latencyTolerance, final int maxQueueDepth,
+                                      final long maxQueueWaitMillis) {
+        this(initialLimit, minLimit, maxLimit, latencyTolerance, maxQueueDepth, maxQueueWaitMillis,
+                DEFAULT_SAMPLE_WINDOW);
+    }
+
+    /**
+     * @param sampleWindow number of latency samples of an endpoint the limit is updated from
+     */
+    public AdaptiveConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit,
+                                      final double latencyTolerance, final int maxQueueDepth,
+                                      final long maxQueueWaitMillis, final int sampleWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit
+                || latencyTolerance < 1 || maxQueueDepth < 0 || maxQueueWaitMillis < 0 || sampleWindow < 1) {
+            throw new IllegalArgumentException("invalid concurrency limits");
+        }
+        this.limit = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.sampleWindow = sampleWindow;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.maxQueueDepth = maxQueueDepth;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMillis);
+    }
+
+    /**
+     * Outcome of an admission attempt
+     */
+    public enum Admission {
+        ADMITTED,
+        /** limit reached and no room left in queue */
+        QUEUE_FULL,
+        /** limit reached and no slot released while waiting in queue */
+        QUEUE_TIMEOUT
+    }
+
+    /**
+     * Try to admit a request, waiting in queue for a slot if the limit has been reached
+     *
+     * @return true if admitted (caller must {@link #release(long)} afterwards), false if rejected
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        return admit() == Admission.ADMITTED;
+    }
+
+    /**
+     * Try to admit a request, waiting in queue for a slot if the limit has been reached
+     *
+     * @return {@link Admission#ADMITTED} if admitted (caller must {@link #release(long)} afterwards), otherwise why the
+     * request has been rejected
+     */
+    public Admission admit() throws InterruptedException {
+        if (tryAcquireSlot()) {
+            return Admission.ADMITTED;
+        }
+        if (queued.incrementAndGet() > maxQueueDepth) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            return Admission.QUEUE_FULL;
+        }
+
+        try {
+            long remainingNanos = maxQueueWaitNanos;
+            lock.lock();
+            try {
+                while (!tryAcquireSlot()) {
+                    if (remainingNanos <= 0) {
+                        rejectedTimeout.increment();
+                        return Admission.QUEUE_TIMEOUT;
+                    }
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                }
+                return Admission.ADMITTED;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Release an admitted request slot, feeding its latency to the limit
+     *
+     * @param latencyNanos time taken to serve the request
+     */
+    public void release(final long latencyNanos) {
+        release(DEFAULT_ENDPOINT, latencyNanos);
+    }
+
+    /**
+     * Release an admitted request slot, feeding its latency to the limit
+     *
+     * @param endpoint endpoint which served the request (its latency is only compared with the same endpoint's), from
+     *                 a bounded set such as mapped path patterns
+     * @param latencyNanos time taken to serve the request
+     */
+    public void release(final String endpoint, final long latencyNanos) {
+        final int inFlightBeforeRelease = inFlight.getAndDecrement();
+        endpoints.computeIfAbsent(endpoint, e -> new Endpoint()).sample(latencyNanos, inFlightBeforeRelease);
+        if (queued.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) currentLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getRejectedQueueFull() {
+        return rejectedQueueFull.sum();
+    }
+
+    public long getRejectedTimeout() {
+        return rejectedTimeout.sum();
+    }
+
+    private boolean tryAcquireSlot() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= (int) currentLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private double currentLimit() {
+        return Double.longBitsToDouble(limit.get());
+    }
+
+    private void updateLimit(final DoubleUnaryOperator update) {
+        while (true) {
+            final long current = limit.get();
+            final double updated = update.applyAsDouble(Double.longBitsToDouble(current));
+            if (limit.compareAndSet(current, Double.doubleToLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Latency of an endpoint: samples of the current window, and the best window average seen
+     */
+    private class Endpoint {
+
+        private final AtomicReference<Window> window = new AtomicReference<>(new Window());
+        private final AtomicLong minLatencyNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicInteger samplesSinceMinLatencyReset = new AtomicInteger();
+
+        private void sample(final long latencyNanos, final int inFlightBeforeRelease) {
+            final Window current = window.get();
+            if (current.add(latencyNanos, inFlightBeforeRelease) && window.compareAndSet(current, new Window())) {
+                // only the release completing the window gets here, once per window
+                update(current.averageNanos(), current.maxInFlight.get());
+            }
+        }
+
+        private void update(final long latencyNanos, final int maxInFlight) {
+            // forget best latency every now and then, so the limiter recovers if the service got slower for good
+            final long minLatency;
+            if (samplesSinceMinLatencyReset.addAndGet(sampleWindow) >= MIN_LATENCY_SAMPLES) {
+                samplesSinceMinLatencyReset.set(0);
+                minLatencyNanos.set(latencyNanos);
+                minLatency = latencyNanos;
+            } else {
+                minLatency = minLatencyNanos.accumulateAndGet(latencyNanos, Math::min);
+            }
+
+            if (latencyNanos > minLatency * latencyTolerance && latencyNanos - minLatency > LATENCY_NOISE_NANOS) {
+                updateLimit(current -> Math.max(minLimit, current * DECREASE_FACTOR));
+            } else {
+                // only grow while the limit is actually being used
+                updateLimit(current -> maxInFlight * 2 >= (int) current ? Math.min(maxLimit, current + 1) : current);
+            }
+        }
+    }
+
+    /**
+     * Latency samples of an endpoint, accumulated until the window is full
+     */
+    private class Window {
+
+        private final AtomicInteger samples = new AtomicInteger();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        /**
+         * @return true if this sample completes the window
+         */
+        private boolean add(final long sampleNanos, final int inFlightBeforeRelease) {
+            latencyNanos.add(sampleNanos);
+            maxInFlight.accumulateAndGet(inFlightBeforeRelease, Math::max);
+            return samples.incrementAndGet() == sampleWindow;
+        }
+
+        /**
+         * @return average latency (samples racing past the end of the window may be included)
+         */
+        private long averageNanos() {
+            final long sum = latencyNanos.sum();
+            return sum / Math.max(1, samples.get());
+        }
+    }
+}
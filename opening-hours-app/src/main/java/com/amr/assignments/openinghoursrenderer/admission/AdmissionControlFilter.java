@@ -0,0 +1,190 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control in front of the opening hours endpoints: requests above the adaptive concurrency limit are shed
+ * with a Retry-After header instead of piling up in the servlet container queue, with TooManyRequests status code (429)
+ * when the queue is full and ServiceUnavailable status code (503) when no slot got released while queued. Request
+ * bodies are capped on the number of events while they are streamed in
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int maxEventsPerRequest;
+    private final long retryAfterSeconds;
+    private final LongAdder rejectedTooManyEvents = new LongAdder();
+
+    public AdmissionControlFilter(final AdaptiveConcurrencyLimiter limiter, final int maxEventsPerRequest,
+                                  final long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.maxEventsPerRequest = maxEventsPerRequest;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final AdaptiveConcurrencyLimiter.Admission admission;
+        try {
+            admission = limiter.admit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return;
+        }
+        if (admission == AdaptiveConcurrencyLimiter.Admission.QUEUE_FULL) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS);
+            return;
+        }
+        if (admission == AdaptiveConcurrencyLimiter.Admission.QUEUE_TIMEOUT) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final Release release = new Release(request, start);
+        try {
+            filterChain.doFilter(new EventLimitingRequest(request), response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // streamed responses hold their slot until fully written
+                request.getAsyncContext().addListener(release);
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * @return number of requests rejected because of too many events informed
+     */
+    public long getRejectedTooManyEvents() {
+        return rejectedTooManyEvents.sum();
+    }
+
+    /**
+     * @return path pattern of the handler which served the request (not the path itself, so that the endpoints stay
+     * a bounded set), or {@link #UNMATCHED_ENDPOINT} if no handler matched
+     */
+    private static String endpoint(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ENDPOINT;
+    }
+
+    private void reject(final HttpServletResponse response, final HttpStatus status) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too busy right now, please retry later");
+    }
+
+    /**
+     * Release of the admitted slot, run once either when the request ends or its async processing completes
+     */
+    private class Release implements AsyncListener, Runnable {
+
+        private final HttpServletRequest request;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Release(final HttpServletRequest request, final long start) {
+            this.request = request;
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(endpoint(request), System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // same request, slot still held
+        }
+    }
+
+    /**
+     * Request which body is read through an {@link EventLimitingInputStream}
+     */
+    private class EventLimitingRequest extends HttpServletRequestWrapper {
+
+        private ServletInputStream inputStream;
+
+        private EventLimitingRequest(final HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                final ServletInputStream delegate = super.getInputStream();
+                final EventLimitingInputStream limited = new EventLimitingInputStream(delegate, maxEventsPerRequest,
+                        rejectedTooManyEvents::increment);
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        return limited.read();
+                    }
+
+                    @Override
+                    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+                        return limited.read(buffer, offset, length);
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return delegate.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(final ReadListener readListener) {
+                        delegate.setReadListener(readListener);
+                    }
+                };
+            }
+            return inputStream;
+        }
+    }
+}
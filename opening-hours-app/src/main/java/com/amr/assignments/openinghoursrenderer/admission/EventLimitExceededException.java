@@ -0,0 +1,18 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a request body that carries more events than allowed per request
+ */
+public class EventLimitExceededException extends IOException {
+
+    public EventLimitExceededException(final int maxEvents) {
+        super("more than " + maxEvents + " events informed");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this; // expected rejection, stack trace is of no use
+    }
+}
@@ -0,0 +1,111 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+
+/**
+ * Input stream that counts the events of the request body as they are read, and fails as soon as the limit is
+ * exceeded, before the rest of the payload is read or deserialized. Every JSON object that is an element of an array
+ * is counted as it opens, whatever it holds, so events cannot dodge the limit by nesting values. Objects wrapping event
+ * lists (schedule, weekly opening hours, overrides) are not counted, except the inline schedules of a coverage request
+ * (elements of the schedules array), which count as one event each
+ */
+public class EventLimitingInputStream extends FilterInputStream {
+
+    private final int maxEvents;
+    private final Runnable onLimitExceeded;
+    private int events;
+    private int depth;
+    // containers being read, by depth: set for arrays, clear for objects
+    private final BitSet arrays = new BitSet();
+    private boolean inString;
+    private boolean escaped;
+
+    public EventLimitingInputStream(final InputStream in, final int maxEvents) {
+        this(in, maxEvents, () -> {});
+    }
+
+    /**
+     * @param in request body
+     * @param maxEvents maximum number of events allowed
+     * @param onLimitExceeded callback run once when the limit is exceeded
+     */
+    public EventLimitingInputStream(final InputStream in, final int maxEvents, final Runnable onLimitExceeded) {
+        super(in);
+        this.maxEvents = maxEvents;
+        this.onLimitExceeded = onLimitExceeded;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            scan((byte) b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final int read = super.read(buffer, offset, length);
+        for (int i = offset; i < offset + read; i++) {
+            scan(buffer[i]);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        // skipped bytes must still be scanned
+        long skipped = 0;
+        while (skipped < n && read() >= 0) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void scan(final byte b) throws EventLimitExceededException {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        switch (b) {
+            case '"':
+                inString = true;
+                break;
+            case '{':
+                if (depth > 0 && arrays.get(depth - 1) && ++events > maxEvents) {
+                    if (events == maxEvents + 1) {
+                        onLimitExceeded.run();
+                    }
+                    throw new EventLimitExceededException(maxEvents);
+                }
+                arrays.clear(depth++);
+                break;
+            case '[':
+                arrays.set(depth++);
+                break;
+            case '}':
+            case ']':
+                // malformed bodies are left to the JSON parser, just never go below the root
+                depth = Math.max(0, depth - 1);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.logging.AccessLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Configuration
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLog accessLog(@Value("${opening-hours.access-log.file:logs/access.log}") final String file,
+                               @Value("${opening-hours.access-log.capacity:8192}") final int capacity,
+                               @Value("${opening-hours.access-log.batch-size:256}") final int batchSize,
+                               @Value("${opening-hours.access-log.sample-every:1}") final int sampleEvery,
+                               @Value("${opening-hours.access-log.flush-interval-millis:200}") final long flushIntervalMillis)
+            throws IOException {
+        return new AccessLog(Paths.get(file), capacity, batchSize, sampleEvery, Duration.ofMillis(flushIntervalMillis));
+    }
+
+    @Bean
+    public MeterBinder accessLogMetrics(final AccessLog accessLog) {
+        return registry -> {
+            FunctionCounter.builder("opening_hours.access_log.written", accessLog, AccessLog::getWritten)
+                    .description("Access log entries written")
+                    .register(registry);
+            FunctionCounter.builder("opening_hours.access_log.dropped", accessLog, AccessLog::getDropped)
+                    .description("Access log entries dropped because the buffer was full")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.admission.AdaptiveConcurrencyLimiter;
+import com.amr.assignments.openinghoursrenderer.admission.AdmissionControlFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdmissionControlConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(
+            @Value("${opening-hours.admission.initial-limit:64}") final int initialLimit,
+            @Value("${opening-hours.admission.min-limit:4}") final int minLimit,
+            @Value("${opening-hours.admission.max-limit:512}") final int maxLimit,
+            @Value("${opening-hours.admission.latency-tolerance:2.0}") final double latencyTolerance,
+            @Value("${opening-hours.admission.max-queue-depth:100}") final int maxQueueDepth,
+            @Value("${opening-hours.admission.max-queue-wait-millis:50}") final long maxQueueWaitMillis,
+            @Value("${opening-hours.admission.sample-window:20}") final int sampleWindow) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyTolerance, maxQueueDepth,
+                maxQueueWaitMillis, sampleWindow);
+    }
+
+    @Bean
+    public AdmissionControlFilter admissionControlFilter(
+            final AdaptiveConcurrencyLimiter concurrencyLimiter,
+            @Value("${opening-hours.admission.max-events-per-request:1000}") final int maxEventsPerRequest,
+            @Value("${opening-hours.admission.retry-after-seconds:1}") final long retryAfterSeconds) {
+        return new AdmissionControlFilter(concurrencyLimiter, maxEventsPerRequest, retryAfterSeconds);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilterRegistration(
+            final AdmissionControlFilter admissionControlFilter) {
+        final FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(admissionControlFilter);
+        registration.addUrlPatterns("/opening-hours", "/opening-hours/*");
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder admissionControlMetrics(final AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                               final AdmissionControlFilter admissionControlFilter) {
+        return registry -> {
+            Gauge.builder("opening_hours.admission.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .register(registry);
+            Gauge.builder("opening_hours.admission.in_flight", concurrencyLimiter,
+                            AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests being served")
+                    .register(registry);
+            Gauge.builder("opening_hours.admission.queued", concurrencyLimiter, AdaptiveConcurrencyLimiter::getQueued)
+                    .description("Requests waiting for a slot")
+                    .register(registry);
+            FunctionCounter.builder("opening_hours.admission.rejected", concurrencyLimiter,
+                            AdaptiveConcurrencyLimiter::getRejectedQueueFull)
+                    .tag("reason", "queue_full")
+                    .description("Requests shed by admission control")
+                    .register(registry);
+            FunctionCounter.builder("opening_hours.admission.rejected", concurrencyLimiter,
+                            AdaptiveConcurrencyLimiter::getRejectedTimeout)
+                    .tag("reason", "queue_timeout")
+                    .description("Requests shed by admission control")
+                    .register(registry);
+            FunctionCounter.builder("opening_hours.admission.rejected", admissionControlFilter,
+                            AdmissionControlFilter::getRejectedTooManyEvents)
+                    .tag("reason", "too_many_events")
+                    .description("Requests shed by admission control")
+                    .register(registry);
+        };
+    }
+}
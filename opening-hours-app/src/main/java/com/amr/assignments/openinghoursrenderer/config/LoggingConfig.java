@@ -0,0 +1,21 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.logging.RateLimitedLogger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public RateLimitedLogger errorLogger(@Value("${opening-hours.error-log.sample-every:1}") final int sampleEvery,
+                                         @Value("${opening-hours.error-log.max-per-interval:10}") final int maxPerInterval,
+                                         @Value("${opening-hours.error-log.interval-millis:1000}") final long intervalMillis) {
+        return new RateLimitedLogger(LoggerFactory.getLogger("com.amr.assignments.openinghoursrenderer.errors"),
+                sampleEvery, maxPerInterval, Duration.ofMillis(intervalMillis));
+    }
+}
@@ -0,0 +1,51 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.controller.ReactiveOpeningHoursHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive serving mode, enabled by the <code>reactive</code> profile (see application-reactive.properties)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    /**
+     * Serve on Netty event loop rather than on Tomcat, which is also on the classpath for the servlet mode
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Bounded worker pool where rendering runs, off the event loop. Tasks beyond the queue capacity are rejected and
+     * answered with ServiceUnavailable status code (503)
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler renderScheduler(
+            @Value("${opening-hours.reactive.render-threads:0}") final int renderThreads,
+            @Value("${opening-hours.reactive.render-queue-capacity:10000}") final int queueCapacity) {
+        final int threads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "opening-hours-render");
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> openingHoursRoutes(final ReactiveOpeningHoursHandler handler) {
+        return RouterFunctions.route()
+                .POST("/opening-hours", handler::renderOpeningHours)
+                .POST("/opening-hours/validate", handler::validateOpeningHours)
+                .POST("/opening-hours/schedule", handler::renderSchedule)
+                .POST("/opening-hours/schedule/open", handler::isOpenAt)
+                .build();
+    }
+}
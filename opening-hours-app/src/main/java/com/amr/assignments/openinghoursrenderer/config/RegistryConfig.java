@@ -0,0 +1,76 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.registry.LocalScheduleNode;
+import com.amr.assignments.openinghoursrenderer.registry.ShardedScheduleRegistry;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedule registry partitioned across in-process nodes (one per partition of the catalog). Catalog-wide queries run
+ * on a pool of the registry, sized independently of the number of nodes as it is shared by every concurrent query;
+ * it is not exposed as a bean, which would replace the application task executor (used by streamed responses)
+ */
+@Configuration
+public class RegistryConfig {
+
+    private ExecutorService scatterExecutor;
+
+    @Bean
+    public ShardedScheduleRegistry scheduleRegistry(
+            final ScheduleAlgebra scheduleAlgebra,
+            @Value("${opening-hours.registry.local-nodes:1}") final int localNodes,
+            @Value("${opening-hours.registry.virtual-nodes:128}") final int virtualNodes,
+            @Value("${opening-hours.registry.scatter-threads:0}") final int scatterThreads) {
+        if (localNodes < 1) {
+            throw new IllegalArgumentException("invalid number of registry nodes");
+        }
+        if (scatterThreads < 0) {
+            throw new IllegalArgumentException("invalid number of registry scatter threads");
+        }
+        final int threads = scatterThreads > 0 ? scatterThreads : Runtime.getRuntime().availableProcessors();
+        scatterExecutor = Executors.newFixedThreadPool(threads, scatterThreadFactory());
+        final ShardedScheduleRegistry registry = new ShardedScheduleRegistry(virtualNodes, scatterExecutor);
+        for (int i = 0; i < localNodes; i++) {
+            registry.addNode(new LocalScheduleNode("local-" + i, scheduleAlgebra));
+        }
+        return registry;
+    }
+
+    @Bean
+    public MeterBinder registryMetrics(final ShardedScheduleRegistry scheduleRegistry) {
+        return registry -> {
+            Gauge.builder("opening_hours.registry.schedules", scheduleRegistry, ShardedScheduleRegistry::size)
+                    .description("Schedules stored across every registry node")
+                    .register(registry);
+            Gauge.builder("opening_hours.registry.nodes", scheduleRegistry, r -> r.getNodeIds().size())
+                    .description("Registry nodes")
+                    .register(registry);
+        };
+    }
+
+    @PreDestroy
+    public void shutdownScatterExecutor() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdown();
+        }
+    }
+
+    private static ThreadFactory scatterThreadFactory() {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "opening-hours-registry-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
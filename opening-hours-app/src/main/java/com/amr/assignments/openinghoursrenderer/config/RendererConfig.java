@@ -0,0 +1,42 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.service.CalendarExporter;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Renderer core (plain Java, see opening-hours-core module) exposed as Spring beans
+ */
+@Configuration
+public class RendererConfig {
+
+    @Bean
+    public OpeningHoursParser openingHoursParser() {
+        return new OpeningHoursParser();
+    }
+
+    @Bean
+    public OpeningHoursValidator openingHoursValidator() {
+        return new OpeningHoursValidator();
+    }
+
+    @Bean
+    public EffectiveScheduleService effectiveScheduleService(final OpeningHoursParser openingHoursParser) {
+        return new EffectiveScheduleService(openingHoursParser);
+    }
+
+    @Bean
+    public CalendarExporter calendarExporter(final ObjectMapper objectMapper) {
+        return new CalendarExporter(objectMapper);
+    }
+
+    @Bean
+    public ScheduleAlgebra scheduleAlgebra(final OpeningHoursParser openingHoursParser) {
+        return new ScheduleAlgebra(openingHoursParser);
+    }
+}
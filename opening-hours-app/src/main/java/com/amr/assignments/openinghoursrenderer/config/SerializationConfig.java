@@ -0,0 +1,15 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.json.OpeningHoursJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SerializationConfig {
+
+    @Bean
+    public ObjectMapper serializingObjectMapper() {
+        return OpeningHoursJson.newObjectMapper();
+    }
+}
@@ -0,0 +1,26 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.admission.AdaptiveConcurrencyLimiter;
+import com.amr.assignments.openinghoursrenderer.logging.AccessLog;
+import com.amr.assignments.openinghoursrenderer.logging.RateLimitedLogger;
+import com.amr.assignments.openinghoursrenderer.registry.ShardedScheduleRegistry;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup-optimized run mode (<code>fast-startup</code> profile, see application-fast-startup.properties)
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans kept eager under lazy initialization: they validate their settings on creation, so a misconfigured
+     * instance still fails to boot instead of failing its first request
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerlyValidatedBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AdaptiveConcurrencyLimiter.class, RateLimitedLogger.class,
+                AccessLog.class, ShardedScheduleRegistry.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.amr.assignments.openinghoursrenderer.warmup.JitWarmUp;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(prefix = "opening-hours.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpConfig {
+
+    @Bean
+    public JitWarmUp jitWarmUp(
+            final ObjectMapper objectMapper,
+            final OpeningHoursValidator openingHoursValidator,
+            final OpeningHoursParser openingHoursParser,
+            final EffectiveScheduleService effectiveScheduleService,
+            @Value("${opening-hours.warm-up.corpus:classpath:warmup/opening-hours-corpus.json}") final Resource corpus,
+            @Value("${opening-hours.warm-up.iterations:20000}") final long iterations,
+            @Value("${opening-hours.warm-up.max-duration-millis:10000}") final long maxDurationMillis) {
+        return new JitWarmUp(objectMapper, openingHoursValidator, openingHoursParser, effectiveScheduleService, corpus,
+                iterations, Duration.ofMillis(maxDurationMillis));
+    }
+
+    @Bean
+    public MeterBinder warmUpMetrics(final JitWarmUp jitWarmUp) {
+        return registry -> {
+            TimeGauge.builder("opening_hours.warm_up.duration", jitWarmUp, TimeUnit.MILLISECONDS,
+                            JitWarmUp::getDurationMillis)
+                    .description("Time spent warming up before reporting readiness")
+                    .register(registry);
+            Gauge.builder("opening_hours.warm_up.iterations", jitWarmUp, JitWarmUp::getIterations)
+                    .description("Corpus entries rendered during warm-up")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,457 @@
+package com.amr.assignments.openinghoursrenderer.controller;
+
+import com.amr.assignments.openinghoursrenderer.admission.EventLimitExceededException;
+import com.amr.assignments.openinghoursrenderer.domain.CoverageRequest;
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningInterval;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationError;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals;
+import com.amr.assignments.openinghoursrenderer.logging.AccessLog;
+import com.amr.assignments.openinghoursrenderer.logging.RateLimitedLogger;
+import com.amr.assignments.openinghoursrenderer.registry.ScheduleRegistry;
+import com.amr.assignments.openinghoursrenderer.registry.ShardedScheduleRegistry;
+import com.amr.assignments.openinghoursrenderer.service.CalendarExporter;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/opening-hours")
+public class OpeningHoursController {
+
+    // number of exported dates (weeks * 7) must fit an int
+    private static final int MAX_EXPORT_WEEKS = Integer.MAX_VALUE / 7;
+
+    private OpeningHoursParser openingHoursParser;
+    private EffectiveScheduleService effectiveScheduleService;
+    private CalendarExporter calendarExporter;
+    private OpeningHoursValidator openingHoursValidator;
+    private RateLimitedLogger errorLogger;
+    private AccessLog accessLog;
+    private ScheduleAlgebra scheduleAlgebra;
+    private ShardedScheduleRegistry scheduleRegistry;
+
+    @Autowired
+    public OpeningHoursController(OpeningHoursParser openingHoursParser,
+                                  EffectiveScheduleService effectiveScheduleService,
+                                  CalendarExporter calendarExporter,
+                                  OpeningHoursValidator openingHoursValidator,
+                                  RateLimitedLogger errorLogger,
+                                  AccessLog accessLog,
+                                  ScheduleAlgebra scheduleAlgebra,
+                                  ShardedScheduleRegistry scheduleRegistry) {
+        this.openingHoursParser = openingHoursParser;
+        this.effectiveScheduleService = effectiveScheduleService;
+        this.calendarExporter = calendarExporter;
+        this.openingHoursValidator = openingHoursValidator;
+        this.errorLogger = errorLogger;
+        this.accessLog = accessLog;
+        this.scheduleAlgebra = scheduleAlgebra;
+        this.scheduleRegistry = scheduleRegistry;
+    }
+
+    /**
+     * Get human readable representation of a weekly opening hours schedule of a restaurant
+     *
+     * @param weeklyOpeningHours map that key is day of the week and value is a list of event times (open and/or close
+     *                           hours) for that day
+     * @return rendered opening hours, or every validation error found with BadRequest status code (400)
+     */
+    @PostMapping
+    public ResponseEntity<?> renderOpeningHours(@RequestBody final JsonNode weeklyOpeningHours) {
+        final long start = System.nanoTime();
+        final ValidationResult validationResult = openingHoursValidator.validate(weeklyOpeningHours);
+        if (!validationResult.isValid()) {
+            errorLogger.warn("Invalid opening hours received: {}", validationResult.getErrors());
+            accessLog.log("/opening-hours", HttpStatus.BAD_REQUEST.value(), System.nanoTime() - start, 0);
+            return ResponseEntity.badRequest().body(validationResult.getErrors());
+        }
+
+        final String response = openingHoursParser.parse(validationResult.getWeeklyOpeningHours());
+        accessLog.log("/opening-hours", HttpStatus.OK.value(), System.nanoTime() - start, response.length());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Validate a weekly opening hours schedule of a restaurant, reporting every problem found at once
+     *
+     * @param weeklyOpeningHours map that key is day of the week and value is a list of event times (open and/or close
+     *                           hours) for that day
+     * @return validation errors, empty if valid
+     */
+    @PostMapping("/validate")
+    public ResponseEntity<List<ValidationError>> validateOpeningHours(@RequestBody final JsonNode weeklyOpeningHours) {
+        return ResponseEntity.ok(openingHoursValidator.validate(weeklyOpeningHours).getErrors());
+    }
+
+    /**
+     * Store (or replace) the weekly opening hours of a restaurant, so that it can be referred to by id
+     *
+     * @param id restaurant id
+     * @param weeklyOpeningHours map that key is day of the week and value is a list of event times (open and/or close
+     *                           hours) for that day
+     * @return NoContent status code (204), or every validation error found with BadRequest status code (400)
+     */
+    @PutMapping("/registry/{id}")
+    public ResponseEntity<?> registerOpeningHours(@PathVariable final String id,
+                                                  @RequestBody final JsonNode weeklyOpeningHours) {
+        final ValidationResult validationResult = openingHoursValidator.validate(weeklyOpeningHours);
+        if (!validationResult.isValid()) {
+            errorLogger.warn("Invalid opening hours received: {}", validationResult.getErrors());
+            return ResponseEntity.badRequest().body(validationResult.getErrors());
+        }
+
+        scheduleRegistry.put(id, validationResult.getWeeklyOpeningHours());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get human readable representation of the weekly opening hours of a registered restaurant
+     *
+     * @param id restaurant id
+     * @return rendered opening hours, or NotFound status code (404) if not registered
+     */
+    @GetMapping("/registry/{id}")
+    public ResponseEntity<String> renderRegisteredOpeningHours(@PathVariable final String id) {
+        return scheduleRegistry.find(id)
+                .map(schedule -> ResponseEntity.ok(openingHoursParser.parse(schedule.getWeeklyOpeningHours())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Remove the weekly opening hours of a registered restaurant
+     *
+     * @param id restaurant id
+     * @return NoContent status code (204), or NotFound (404) if not registered
+     */
+    @DeleteMapping("/registry/{id}")
+    public ResponseEntity<Void> unregisterOpeningHours(@PathVariable final String id) {
+        return scheduleRegistry.remove(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Get human readable representation of when at least a number of restaurants are open at the same time, e.g.
+     * when any branch is open (union, default) or when all of them are (intersection)
+     *
+     * @param coverageRequest weekly opening hours of each restaurant and/or ids of registered ones
+     * @param atLeast minimum number of restaurants open at the same time, or <code>all</code>
+     * @return rendered opening hours (every day of the week), NotFound status code (404) if an id is not registered, or
+     * the validation errors of the first invalid inline schedule with BadRequest status code (400)
+     */
+    @PostMapping("/coverage")
+    public ResponseEntity<?> renderCoverage(@RequestBody final CoverageRequest coverageRequest,
+                                            @RequestParam(defaultValue = "1") final String atLeast) {
+        final List<WeeklyIntervals> schedules = new ArrayList<>();
+        for (Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours : coverageRequest.getSchedules()) {
+            final ValidationResult validationResult = openingHoursValidator.validate(weeklyOpeningHours);
+            if (!validationResult.isValid()) {
+                errorLogger.warn("Invalid opening hours received: {}", validationResult.getErrors());
+                return ResponseEntity.badRequest().body(validationResult.getErrors());
+            }
+            schedules.add(scheduleAlgebra.compile(validationResult.getWeeklyOpeningHours()));
+        }
+        for (String id : coverageRequest.getIds()) {
+            final Optional<ScheduleRegistry.RegisteredSchedule> schedule = scheduleRegistry.find(id);
+            if (schedule.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("No opening hours registered for " + id);
+            }
+            schedules.add(schedule.get().getIntervals());
+        }
+
+        final int k = "all".equalsIgnoreCase(atLeast) ? schedules.size() : parseCount(atLeast);
+        if (k < 1 || k > schedules.size()) {
+            errorLogger.warn("Invalid coverage requested: at least {} out of {}", atLeast, schedules.size());
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("Wait, we've got something weird here. Invalid data received!");
+        }
+        return ResponseEntity.ok(scheduleAlgebra.render(scheduleAlgebra.atLeast(k, schedules)));
+    }
+
+    /**
+     * Find the registered restaurants open at a given day of the week and time, across every registry node
+     *
+     * @param day day of the week (e.g. <code>friday</code>)
+     * @param time time of the day (e.g. <code>12:00</code>)
+     * @return ids of the open restaurants, sorted, or BadRequest status code (400) if invalid day
+     */
+    @GetMapping("/open")
+    public ResponseEntity<?> findOpenRestaurants(
+            @RequestParam final String day,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) final LocalTime time) {
+        final Optional<DayOfWeek> dayOfWeek = DayOfWeek.find(day);
+        if (dayOfWeek.isEmpty()) {
+            errorLogger.warn("Invalid day of week received: {}", day);
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("Wait, we've got something weird here. Invalid data received!");
+        }
+        return ResponseEntity.ok(scheduleRegistry.openAt(dayOfWeek.get(), time));
+    }
+
+    /**
+     * Count the registered restaurants open at the start of every slot of the week, across every registry node
+     *
+     * @param slotMinutes slot length in minutes, dividing a day
+     * @return number of open restaurants per slot, by day of the week, or BadRequest status code (400) if invalid slot
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<?> renderHeatmap(@RequestParam(defaultValue = "60") final int slotMinutes) {
+        if (slotMinutes < 1 || 24 * 60 % slotMinutes != 0) {
+            errorLogger.warn("Invalid heatmap slot received: {} minutes", slotMinutes);
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("Wait, we've got something weird here. Invalid data received!");
+        }
+
+        final int[] heatmap = scheduleRegistry.heatmap(slotMinutes * 60);
+        final int slotsPerDay = heatmap.length / DayOfWeek.values().length;
+        final Map<String, int[]> heatmapByDay = new LinkedHashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            final int firstSlot = day.ordinal() * slotsPerDay;
+            heatmapByDay.put(day.getName().toLowerCase(Locale.ROOT),
+                    Arrays.copyOfRange(heatmap, firstSlot, firstSlot + slotsPerDay));
+        }
+        return ResponseEntity.ok(heatmapByDay);
+    }
+
+    /**
+     * Get human readable representation of the effective opening hours of a restaurant for consecutive dates,
+     * merging date-specific overrides (holidays, special hours) with the weekly schedule
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @param from first date to be rendered
+     * @param days number of dates to be rendered
+     * @return rendered opening hours, one line per date, or every validation error found with BadRequest status code
+     * (400)
+     */
+    @PostMapping("/schedule")
+    public ResponseEntity<?> renderSchedule(
+            @RequestBody final Schedule schedule,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam(defaultValue = "7") final int days) {
+        if (days < 1) {
+            errorLogger.warn("Invalid dates range received: {} days", days);
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("Wait, we've got something weird here. Invalid data received!");
+        }
+        return rejectInvalid(schedule)
+                .orElseGet(() -> ResponseEntity.ok(effectiveScheduleService.render(schedule, from, days)));
+    }
+
+    /**
+     * Check if a restaurant is open at a given date and time
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @param at date and time to be checked
+     * @return true if open, false otherwise, or every validation error found with BadRequest status code (400)
+     */
+    @PostMapping("/schedule/open")
+    public ResponseEntity<?> isOpenAt(
+            @RequestBody final Schedule schedule,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime at) {
+        return rejectInvalid(schedule)
+                .orElseGet(() -> ResponseEntity.ok(effectiveScheduleService.isOpenAt(schedule, at)));
+    }
+
+    /**
+     * Export concrete opening intervals of the next weeks as an iCalendar document. Intervals are expanded and
+     * written as the response is streamed out, so the whole range is never held in memory
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @param from first date to be exported
+     * @param weeks number of weeks to be exported
+     * @param name restaurant name used as event summary
+     * @return streamed iCalendar document, or every validation error found with BadRequest status code (400)
+     */
+    @PostMapping(value = "/schedule/calendar", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> exportCalendar(
+            @RequestBody final Schedule schedule,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam(defaultValue = "52") final int weeks,
+            @RequestParam(required = false) final String name) {
+        checkExport(schedule, weeks);
+
+        final Stream<OpeningInterval> intervals = effectiveScheduleService.expand(schedule, from, weeks * 7);
+        final StreamingResponseBody body = outputStream -> calendarExporter.writeICalendar(intervals, name,
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        return ResponseEntity.ok().contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8)).body(body);
+    }
+
+    /**
+     * Export concrete opening intervals of the next weeks as a JSON array, streamed as they are expanded
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @param from first date to be exported
+     * @param weeks number of weeks to be exported
+     * @return streamed JSON array of opening intervals, or every validation error found with BadRequest status code
+     * (400)
+     */
+    @PostMapping(value = "/schedule/intervals", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportIntervals(
+            @RequestBody final Schedule schedule,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam(defaultValue = "52") final int weeks) {
+        checkExport(schedule, weeks);
+
+        final Stream<OpeningInterval> intervals = effectiveScheduleService.expand(schedule, from, weeks * 7);
+        final StreamingResponseBody body = outputStream -> calendarExporter.writeJson(intervals, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Check an export request up front, as errors can no longer be reported once the streamed response has started.
+     * Rejections are thrown, so that export endpoints keep returning a streamed body (which Spring only streams when
+     * declared as such)
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @param weeks number of weeks to be exported
+     * @throws RejectedExportException with every validation error found, or an invalid range error, and BadRequest
+     * status code (400)
+     */
+    private void checkExport(final Schedule schedule, final int weeks) {
+        if (weeks < 1 || weeks > MAX_EXPORT_WEEKS) {
+            errorLogger.warn("Invalid export range received: {} weeks", weeks);
+            throw new RejectedExportException(ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Wait, we've got something weird here. Invalid data received!"));
+        }
+
+        rejectInvalid(schedule).ifPresent(rejection -> {
+            throw new RejectedExportException(rejection);
+        });
+    }
+
+    /**
+     * Validate a schedule (weekly opening hours and every override) before resolving it
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @return every validation error found with BadRequest status code (400), empty if valid
+     */
+    private Optional<ResponseEntity<?>> rejectInvalid(final Schedule schedule) {
+        final ValidationResult validationResult = openingHoursValidator.validate(schedule);
+        if (validationResult.isValid()) {
+            return Optional.empty();
+        }
+        errorLogger.warn("Invalid schedule received: {}", validationResult.getErrors());
+        // content type set explicitly, as export endpoints otherwise only produce their own document type
+        return Optional.of(ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(validationResult.getErrors()));
+    }
+
+    private static int parseCount(final String count) {
+        try {
+            return Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Exception handler to reply with more friendly error message when an exception occurs while parsing request input
+     *
+     * @param ex Exception to be handled
+     * @return error message with BadRequest status code (400), or PayloadTooLarge (413) if too many events informed
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class})
+    public ResponseEntity handleHttpMessageNotReadableException(final HttpMessageNotReadableException ex) {
+        if (ex.getMostSpecificCause() instanceof EventLimitExceededException) {
+            errorLogger.warn("Request rejected: {}", ex.getMostSpecificCause().getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body("Whoa, that is a lot of opening hours! " + ex.getMostSpecificCause().getMessage());
+        }
+
+        errorLogger.warn("Invalid data received: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body("Wait, we've got something weird here. Invalid data received!");
+    }
+
+    /**
+     * Exception handler replying the rejection of an export request found invalid before streaming
+     *
+     * @param ex Exception to be handled
+     * @return rejection response, with BadRequest status code (400)
+     */
+    @ExceptionHandler(RejectedExportException.class)
+    public ResponseEntity<?> handleRejectedExportException(final RejectedExportException ex) {
+        return ex.getResponse();
+    }
+
+    /**
+     * Global exception handler to reply with more friendly error message when an exception occurs
+     *
+     * @param ex Exception to be handled
+     * @return error message with InternalServerError status code (500)
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity handleRuntimeException(final RuntimeException ex) {
+        errorLogger.error("Unexpected error", ex);
+        return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Oops! Something went wrong!");
+    }
+
+    /**
+     * Export request rejected before its response started
+     */
+    static class RejectedExportException extends RuntimeException {
+
+        private final transient ResponseEntity<?> response;
+
+        RejectedExportException(final ResponseEntity<?> response) {
+            super(null, null, false, false);
+            this.response = response;
+        }
+
+        ResponseEntity<?> getResponse() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.amr.assignments.openinghoursrenderer.controller;
+
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.amr.assignments.openinghoursrenderer.logging.RateLimitedLogger;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Reactive (non-blocking) counterpart of {@link OpeningHoursController}, serving the same contract on an event loop.
+ * Request bodies are decoded without blocking and rendering runs on a bounded worker pool, so event loop threads only
+ * ever do I/O
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOpeningHoursHandler {
+
+    private OpeningHoursParser openingHoursParser;
+    private OpeningHoursValidator openingHoursValidator;
+    private EffectiveScheduleService effectiveScheduleService;
+    private Scheduler renderScheduler;
+    private RateLimitedLogger errorLogger;
+    private long retryAfterSeconds;
+
+    @Autowired
+    public ReactiveOpeningHoursHandler(OpeningHoursParser openingHoursParser,
+                                       OpeningHoursValidator openingHoursValidator,
+                                       EffectiveScheduleService effectiveScheduleService,
+                                       @Qualifier("renderScheduler") Scheduler renderScheduler,
+                                       RateLimitedLogger errorLogger,
+                                       @Value("${opening-hours.admission.retry-after-seconds:1}")
+                                               long retryAfterSeconds) {
+        this.openingHoursParser = openingHoursParser;
+        this.openingHoursValidator = openingHoursValidator;
+        this.effectiveScheduleService = effectiveScheduleService;
+        this.renderScheduler = renderScheduler;
+        this.errorLogger = errorLogger;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Get human readable representation of a weekly opening hours schedule of a restaurant
+     *
+     * @param request request which body is a map that key is day of the week and value is a list of event times
+     * @return rendered opening hours, or every validation error found with BadRequest status code (400)
+     */
+    public Mono<ServerResponse> renderOpeningHours(final ServerRequest request) {
+        return body(request, JsonNode.class)
+                .publishOn(renderScheduler)
+                .map(openingHoursValidator::validate)
+                .flatMap(validationResult -> validationResult.isValid()
+                        ? text(openingHoursParser.parse(validationResult.getWeeklyOpeningHours()))
+                        : badRequest(validationResult))
+                .onErrorResume(this::handleError);
+    }
+
+    /**
+     * Validate a weekly opening hours schedule of a restaurant, reporting every problem found at once
+     *
+     * @param request request which body is a map that key is day of the week and value is a list of event times
+     * @return validation errors, empty if valid
+     */
+    public Mono<ServerResponse> validateOpeningHours(final ServerRequest request) {
+        return body(request, JsonNode.class)
+                .publishOn(renderScheduler)
+                .map(openingHoursValidator::validate)
+                .flatMap(validationResult -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(validationResult.getErrors()))
+                .onErrorResume(this::handleError);
+    }
+
+    /**
+     * Get human readable representation of the effective opening hours of a restaurant for consecutive dates
+     *
+     * @param request request with <code>from</code> and <code>days</code> query parameters which body is a schedule
+     * @return rendered opening hours, one line per date, or every validation error found with BadRequest status code
+     * (400)
+     */
+    public Mono<ServerResponse> renderSchedule(final ServerRequest request) {
+        return Mono.fromCallable(() -> LocalDate.parse(requiredQueryParam(request, "from")))
+                .zipWith(body(request, Schedule.class))
+                .publishOn(renderScheduler)
+                .flatMap(fromAndSchedule -> {
+                    final ValidationResult validationResult = openingHoursValidator.validate(fromAndSchedule.getT2());
+                    return validationResult.isValid()
+                            ? text(effectiveScheduleService.render(fromAndSchedule.getT2(), fromAndSchedule.getT1(),
+                                    days(request)))
+                            : badRequest(validationResult);
+                })
+                .onErrorResume(this::handleError);
+    }
+
+    /**
+     * Check if a restaurant is open at a given date and time
+     *
+     * @param request request with <code>at</code> query parameter which body is a schedule
+     * @return true if open, false otherwise, or every validation error found with BadRequest status code (400)
+     */
+    public Mono<ServerResponse> isOpenAt(final ServerRequest request) {
+        return Mono.fromCallable(() -> LocalDateTime.parse(requiredQueryParam(request, "at")))
+                .zipWith(body(request, Schedule.class))
+                .publishOn(renderScheduler)
+                .flatMap(atAndSchedule -> {
+                    final ValidationResult validationResult = openingHoursValidator.validate(atAndSchedule.getT2());
+                    return validationResult.isValid()
+                            ? ServerResponse.ok()
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(effectiveScheduleService.isOpenAt(atAndSchedule.getT2(),
+                                            atAndSchedule.getT1()))
+                            : badRequest(validationResult);
+                })
+                .onErrorResume(this::handleError);
+    }
+
+    private <T> Mono<T> body(final ServerRequest request, final Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("no opening hours informed")));
+    }
+
+    private int days(final ServerRequest request) {
+        final int days = Integer.parseInt(request.queryParam("days").orElse("7"));
+        if (days < 1) {
+            throw new ServerWebInputException("invalid number of days " + days);
+        }
+        return days;
+    }
+
+    private String requiredQueryParam(final ServerRequest request, final String name) {
+        return request.queryParam(name)
+                .orElseThrow(() -> new ServerWebInputException("missing query parameter " + name));
+    }
+
+    private Mono<ServerResponse> text(final String body) {
+        return ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue(body);
+    }
+
+    private Mono<ServerResponse> badRequest(final ValidationResult validationResult) {
+        errorLogger.warn("Invalid opening hours received: {}", validationResult.getErrors());
+        return ServerResponse.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validationResult.getErrors());
+    }
+
+    /**
+     * Reply with the same friendly error messages as {@link OpeningHoursController}
+     */
+    private Mono<ServerResponse> handleError(final Throwable ex) {
+        if (ex instanceof ServerWebInputException || ex instanceof DecodingException
+                || ex instanceof DateTimeParseException || ex instanceof NumberFormatException) {
+            errorLogger.warn("Invalid data received: {}", ex.getMessage());
+            return ServerResponse.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .bodyValue("Wait, we've got something weird here. Invalid data received!");
+        }
+        if (ex instanceof RejectedExecutionException) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .bodyValue("Too busy right now, please retry later");
+        }
+        errorLogger.error("Unexpected error", ex);
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("Oops! Something went wrong!");
+    }
+}
@@ -0,0 +1,231 @@
+package com.amr.assignments.openinghoursrenderer.logging;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured access log (one JSON object per line) written by a background thread. Request threads only claim a slot
+ * of a bounded lock-free ring buffer, so they never wait on I/O nor on each other: entries are sampled (one out of
+ * every N requests) and dropped, and counted, when the buffer is full. The writer drains the buffer in batches, with
+ * one write and flush per batch
+ */
+@Slf4j
+public class AccessLog implements Closeable {
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final int batchSize;
+    private final int sampleEvery;
+    private final long flushIntervalNanos;
+    private final Writer writer;
+    private final Thread writerThread;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private volatile boolean running = true;
+
+    public AccessLog(final Path file, final int capacity, final int batchSize, final int sampleEvery,
+                     final Duration flushInterval) throws IOException {
+        this(openForAppend(file), capacity, batchSize, sampleEvery, flushInterval,
+                runnable -> new Thread(runnable, "access-log-writer"));
+    }
+
+    AccessLog(final Writer writer, final int capacity, final int batchSize, final int sampleEvery,
+              final Duration flushInterval, final ThreadFactory threadFactory) {
+        if (capacity < 1 || capacity > 1 << 30 || batchSize < 1 || sampleEvery < 1
+                || flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("invalid access log settings");
+        }
+        final int slotCount = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+        this.batchSize = batchSize;
+        this.sampleEvery = sampleEvery;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.writer = writer;
+        this.writerThread = threadFactory.newThread(this::writeLoop);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Record a request if sampled. Never blocks: the entry is dropped if the buffer is full
+     *
+     * @param endpoint endpoint name
+     * @param status response status code
+     * @param durationNanos time spent serving the request
+     * @param responseLength response body length, in characters
+     */
+    public void log(final String endpoint, final int status, final long durationNanos, final int responseLength) {
+        if (received.incrementAndGet() % sampleEvery != 0) {
+            return;
+        }
+
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() > mask) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) claimed & mask, new Entry(System.currentTimeMillis(), endpoint, status,
+                TimeUnit.NANOSECONDS.toMicros(durationNanos), responseLength));
+    }
+
+    /**
+     * @return entries dropped because the buffer was full (or writing them failed)
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return entries written so far
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * Stop the writer once every entry already buffered has been written. A writer thread still stuck in a write after
+     * the flush interval is interrupted; the file is only closed once that thread has stopped
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        awaitWriterThread();
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            awaitWriterThread();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Access log writer did not stop, leaving {} open", writerThread.getName());
+            return;
+        }
+        // writer stopped, buffer can be drained from here
+        final StringBuilder batch = new StringBuilder();
+        while (drain(batch) > 0) {
+            batch.setLength(0);
+        }
+        writer.close();
+    }
+
+    private void awaitWriterThread() {
+        try {
+            writerThread.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        final StringBuilder batch = new StringBuilder();
+        while (running) {
+            try {
+                if (drain(batch) == 0) {
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            } catch (RuntimeException e) {
+                // keep the only consumer alive, whatever went wrong with this batch
+                log.warn("Unable to write access log: {}", e.toString());
+            }
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * Write up to one batch of buffered entries (single consumer). Entries that cannot be formatted or written are
+     * counted as dropped
+     *
+     * @return number of entries taken from the buffer
+     */
+    private int drain(final StringBuilder batch) {
+        long next = head.get();
+        int count = 0;
+        int lines = 0;
+        while (count < batchSize) {
+            final int slot = (int) next & mask;
+            final Entry entry = slots.get(slot);
+            if (entry == null) {
+                break; // empty, or slot claimed but entry not published yet
+            }
+            slots.lazySet(slot, null);
+            head.lazySet(++next);
+            count++;
+            final int length = batch.length();
+            try {
+                entry.appendTo(batch);
+                lines++;
+            } catch (RuntimeException e) {
+                batch.setLength(length);
+                dropped.incrementAndGet();
+            }
+        }
+        if (lines > 0) {
+            try {
+                writer.write(batch.toString());
+                writer.flush();
+                written.addAndGet(lines);
+            } catch (IOException | RuntimeException e) {
+                dropped.addAndGet(lines);
+                log.warn("Unable to write access log: {}", e.toString());
+            }
+        }
+        return count;
+    }
+
+    private static Writer openForAppend(final Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    private static final class Entry {
+
+        private final long timestamp;
+        private final String endpoint;
+        private final int status;
+        private final long durationMicros;
+        private final int responseLength;
+
+        private Entry(final long timestamp, final String endpoint, final int status, final long durationMicros,
+                      final int responseLength) {
+            this.timestamp = timestamp;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.durationMicros = durationMicros;
+            this.responseLength = responseLength;
+        }
+
+        private void appendTo(final StringBuilder line) {
+            line.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(timestamp)).append("\",\"endpoint\":\"");
+            JsonStringEncoder.getInstance().quoteAsString(endpoint, line);
+            line.append("\",\"status\":").append(status)
+                    .append(",\"durationMicros\":").append(durationMicros)
+                    .append(",\"responseLength\":").append(responseLength)
+                    .append("}\n");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.amr.assignments.openinghoursrenderer.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Logger wrapper that samples (one out of every N messages) and rate-limits (at most M messages per interval) what is
+ * actually written, so a misbehaving client cannot flood logs. Suppressed messages are counted and reported along
+ * with the next message written. Lock-free: callers never block on each other
+ */
+public class RateLimitedLogger {
+
+    private final Logger logger;
+    private final int sampleEvery;
+    private final int maxPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong windowStart;
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    public RateLimitedLogger(final Logger logger, final int sampleEvery, final int maxPerInterval,
+                             final Duration interval) {
+        this(logger, sampleEvery, maxPerInterval, interval, System::nanoTime);
+    }
+
+    RateLimitedLogger(final Logger logger, final int sampleEvery, final int maxPerInterval, final Duration interval,
+                      final LongSupplier nanoTime) {
+        if (sampleEvery < 1 || maxPerInterval < 0 || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("invalid rate limit");
+        }
+        this.logger = logger;
+        this.sampleEvery = sampleEvery;
+        this.maxPerInterval = maxPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+        this.windowStart = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * Log a warning (no stack trace) if sampled and within rate limit
+     *
+     * @param format message format
+     * @param arguments message arguments
+     */
+    public void warn(final String format, final Object... arguments) {
+        if (logger.isWarnEnabled() && tryAcquire()) {
+            final long suppressedCount = suppressed.getAndSet(0);
+            if (suppressedCount == 0) {
+                logger.warn(format, arguments);
+            } else {
+                final Object[] all = new Object[arguments.length + 1];
+                System.arraycopy(arguments, 0, all, 0, arguments.length);
+                all[arguments.length] = suppressedCount;
+                logger.warn(format + " ({} similar messages suppressed)", all);
+            }
+        }
+    }
+
+    /**
+     * Log an error with its stack trace if sampled and within rate limit
+     *
+     * @param message message
+     * @param throwable error to be logged
+     */
+    public void error(final String message, final Throwable throwable) {
+        if (logger.isErrorEnabled() && tryAcquire()) {
+            final long suppressedCount = suppressed.getAndSet(0);
+            logger.error(suppressedCount == 0 ? message : message + " (" + suppressedCount + " similar messages suppressed)",
+                    throwable);
+        }
+    }
+
+    /**
+     * @return number of messages suppressed since the last message written
+     */
+    public long getSuppressed() {
+        return suppressed.get();
+    }
+
+    private boolean tryAcquire() {
+        if (received.incrementAndGet() % sampleEvery != 0) {
+            suppressed.incrementAndGet();
+            return false;
+        }
+
+        final long now = nanoTime.getAsLong();
+        final long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        if (windowCount.incrementAndGet() > maxPerInterval) {
+            suppressed.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+}
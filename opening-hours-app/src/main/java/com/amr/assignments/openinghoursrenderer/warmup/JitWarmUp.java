@@ -0,0 +1,149 @@
+package com.amr.assignments.openinghoursrenderer.warmup;
+
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replay a corpus of weekly opening hours through the same code as a render request (JSON parsing, validation,
+ * rendering and error serialization) until a number of iterations or a time budget is reached, so that code is
+ * JIT-compiled before real traffic arrives. Runs as an application runner: readiness only turns to
+ * ACCEPTING_TRAFFIC once every runner has completed
+ */
+@Slf4j
+public class JitWarmUp implements ApplicationRunner {
+
+    private static final LocalDate WARM_UP_DATE = LocalDate.of(2026, 12, 21);
+
+    private final ObjectMapper objectMapper;
+    private final OpeningHoursValidator openingHoursValidator;
+    private final OpeningHoursParser openingHoursParser;
+    private final EffectiveScheduleService effectiveScheduleService;
+    private final Resource corpus;
+    private final long maxIterations;
+    private final Duration maxDuration;
+
+    private volatile long iterations;
+    private volatile long durationMillis;
+    private volatile boolean completed;
+    private volatile long checksum;
+
+    /**
+     * @param corpus JSON weekly opening hours, either as an array or as a sequence of objects (e.g. one captured
+     *               request body per line)
+     * @param maxIterations number of corpus entries to be rendered
+     * @param maxDuration time budget, warm-up stops when reached even if not all iterations were run
+     */
+    public JitWarmUp(final ObjectMapper objectMapper,
+                     final OpeningHoursValidator openingHoursValidator,
+                     final OpeningHoursParser openingHoursParser,
+                     final EffectiveScheduleService effectiveScheduleService,
+                     final Resource corpus,
+                     final long maxIterations,
+                     final Duration maxDuration) {
+        if (maxIterations < 0 || maxDuration.isNegative()) {
+            throw new IllegalArgumentException("invalid warm-up settings");
+        }
+        this.objectMapper = objectMapper;
+        this.openingHoursValidator = openingHoursValidator;
+        this.openingHoursParser = openingHoursParser;
+        this.effectiveScheduleService = effectiveScheduleService;
+        this.corpus = corpus;
+        this.maxIterations = maxIterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        warmUp();
+    }
+
+    /**
+     * Run the warm-up. Never fails: a missing or broken corpus only skips (or cuts short) the warm-up
+     */
+    public void warmUp() {
+        final long start = System.nanoTime();
+        final long deadline = start + maxDuration.toNanos();
+        long count = 0;
+        try {
+            final List<byte[]> requests = readCorpus();
+            long sum = 0;
+            while (!requests.isEmpty() && count < maxIterations && System.nanoTime() - deadline < 0) {
+                sum += render(requests.get((int) (count % requests.size())));
+                count++;
+            }
+            checksum = sum;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Warm-up cut short after {} iterations: {}", count, e.toString());
+        } finally {
+            iterations = count;
+            durationMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            completed = true;
+        }
+        log.info("Warm-up completed: {} iterations in {} ms", iterations, durationMillis);
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Read corpus entries as raw JSON, so that every iteration parses its request body like a real request does
+     */
+    private List<byte[]> readCorpus() throws IOException {
+        final List<byte[]> requests = new ArrayList<>();
+        try (InputStream in = corpus.getInputStream();
+             MappingIterator<JsonNode> values = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (values.hasNextValue()) {
+                final JsonNode value = values.nextValue();
+                if (value.isArray()) {
+                    for (JsonNode element : value) {
+                        requests.add(objectMapper.writeValueAsBytes(element));
+                    }
+                } else {
+                    requests.add(objectMapper.writeValueAsBytes(value));
+                }
+            }
+        }
+        return requests;
+    }
+
+    private long render(final byte[] request) {
+        try {
+            final ValidationResult validationResult = openingHoursValidator.validate(objectMapper.readTree(request));
+            if (!validationResult.isValid()) {
+                return objectMapper.writeValueAsBytes(validationResult.getErrors()).length;
+            }
+            final String rendered = openingHoursParser.parse(validationResult.getWeeklyOpeningHours());
+            final Schedule schedule = new Schedule(validationResult.getWeeklyOpeningHours(), null);
+            return rendered.length() + effectiveScheduleService.render(schedule, WARM_UP_DATE, 7).length();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void givenLimitReachedAndNoQueue_whenTryAcquire_thenRejectedRightAway() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0, 0, 1000);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedQueueFull()).isEqualTo(1L);
+    }
+
+    @Test
+    void givenLimitReachedAndQueueWaitElapsed_whenTryAcquire_thenRejectedByTimeout() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(limiter.getRejectedTimeout()).isEqualTo(1L);
+        assertThat(limiter.getQueued()).isEqualTo(0);
+    }
+
+    @Test
+    void givenLimitReached_whenAdmit_thenRejectionCauseReported() throws Exception {
+        AdaptiveConcurrencyLimiter noQueue = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 0, 1000);
+        AdaptiveConcurrencyLimiter shortWait = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 1, 10);
+
+        assertThat(noQueue.admit()).isEqualTo(AdaptiveConcurrencyLimiter.Admission.ADMITTED);
+        assertThat(noQueue.admit()).isEqualTo(AdaptiveConcurrencyLimiter.Admission.QUEUE_FULL);
+        assertThat(shortWait.admit()).isEqualTo(AdaptiveConcurrencyLimiter.Admission.ADMITTED);
+        assertThat(shortWait.admit()).isEqualTo(AdaptiveConcurrencyLimiter.Admission.QUEUE_TIMEOUT);
+    }
+
+    @Test
+    void givenSlotReleasedWhileQueued_whenTryAcquire_thenAdmitted() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 1, 5000);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            limiter.release(FAST);
+        });
+        releaser.start();
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        releaser.join();
+    }
+
+    @Test
+    void givenLatencyWellAboveBest_whenRelease_thenLimitDecreased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 2.0, 0, 0, 1);
+
+        limiter.tryAcquire();
+        limiter.release(FAST);
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    void givenSlowSampleWithinWindow_whenRelease_thenLimitDecreasedOncePerWindow() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 2.0, 0, 0, 2);
+
+        for (long latency : new long[]{FAST, FAST, SLOW}) {
+            limiter.tryAcquire();
+            limiter.release(latency);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    void givenSlowEndpoint_whenRelease_thenLatencyComparedWithinEndpointOnly() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 2.0, 0, 0, 1);
+
+        limiter.tryAcquire();
+        limiter.release("/opening-hours", FAST);
+        limiter.tryAcquire();
+        limiter.release("/opening-hours/schedule/calendar", SLOW);
+        limiter.tryAcquire();
+        limiter.release("/opening-hours", FAST);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void givenLimitInUseAndLatencyStable_whenRelease_thenLimitIncreased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 2.0, 0, 0, 1);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.release(FAST);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+}
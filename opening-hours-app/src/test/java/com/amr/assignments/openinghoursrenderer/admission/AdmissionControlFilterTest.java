@@ -0,0 +1,52 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    @Test
+    void givenQueueFull_whenFilter_thenTooManyRequestsWithRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 0, 1000);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        MockHttpServletResponse response = filter(limiter);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+
+    @Test
+    void givenNoSlotReleasedWhileQueued_whenFilter_thenServiceUnavailableWithRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 1, 10);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        MockHttpServletResponse response = filter(limiter);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+
+    @Test
+    void givenSlotAvailable_whenFilter_thenRequestServedAndSlotReleased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 2.0, 0, 1000);
+
+        MockHttpServletResponse response = filter(limiter);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private MockHttpServletResponse filter(final AdaptiveConcurrencyLimiter limiter) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new AdmissionControlFilter(limiter, 1000, 3)
+                .doFilter(new MockHttpServletRequest("POST", "/opening-hours"), response, new MockFilterChain());
+        return response;
+    }
+}
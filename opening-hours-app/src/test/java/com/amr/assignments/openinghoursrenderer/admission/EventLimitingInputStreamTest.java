@@ -0,0 +1,64 @@
+package com.amr.assignments.openinghoursrenderer.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class EventLimitingInputStreamTest {
+
+    private static final String TWO_EVENTS = "{\"monday\":[{\"type\":\"open\",\"value\":36000}," +
+            "{\"type\":\"close\",\"value\":64800}]}";
+
+    @Test
+    void givenEventsWithinLimit_whenRead_thenWholeBodyRead() throws Exception {
+        InputStream inputStream = limited(TWO_EVENTS, 2);
+
+        assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(TWO_EVENTS);
+    }
+
+    @Test
+    void givenMoreEventsThanLimit_whenRead_thenEventLimitExceeded() {
+        InputStream inputStream = limited(TWO_EVENTS, 1);
+
+        assertThatExceptionOfType(EventLimitExceededException.class).isThrownBy(inputStream::readAllBytes);
+    }
+
+    @Test
+    void givenBracesWithinStrings_whenRead_thenNotCountedAsEvents() throws Exception {
+        final String body = "{\"mon{day\":[{\"type\":\"op\\\"{en\",\"value\":36000}]}";
+        InputStream inputStream = limited(body, 1);
+
+        assertThat(inputStream.readAllBytes()).hasSize(body.length());
+    }
+
+    @Test
+    void givenScheduleAndCoverageWrappers_whenRead_thenOnlyArrayElementsCounted() throws Exception {
+        final String schedule = "{\"weeklyOpeningHours\":" + TWO_EVENTS + ",\"overrides\":{\"2026-12-25\":[]," +
+                "\"2026-12-26\":[{\"type\":\"open\",\"value\":36000}]}}";
+        // two inline schedules plus their two events
+        final String coverage = "{\"ids\":[\"a\"],\"schedules\":[" + TWO_EVENTS + ",{\"tuesday\":[]}],\"weeks\":1}";
+
+        assertThat(limited(schedule, 3).readAllBytes()).hasSize(schedule.length());
+        assertThat(limited(coverage, 4).readAllBytes()).hasSize(coverage.length());
+        assertThatExceptionOfType(EventLimitExceededException.class).isThrownBy(limited(schedule, 2)::readAllBytes);
+        assertThatExceptionOfType(EventLimitExceededException.class).isThrownBy(limited(coverage, 3)::readAllBytes);
+    }
+
+    @Test
+    void givenEventsPaddedWithNestedValues_whenRead_thenEveryEventCounted() {
+        final String body = "{\"monday\":[{\"type\":\"open\",\"value\":36000,\"x\":{}}," +
+                "{\"type\":\"close\",\"value\":[64800]}]}";
+
+        assertThatExceptionOfType(EventLimitExceededException.class).isThrownBy(limited(body, 1)::readAllBytes);
+    }
+
+    private InputStream limited(final String body, final int maxEvents) {
+        return new EventLimitingInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), maxEvents);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("fast-startup")
+class StartupConfigTest {
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    StartupConfigTest(ConfigurableListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Test
+    void givenFastStartupProfile_whenBoot_thenRendererBeansAreLazy() {
+        assertThat(beanFactory.getBeanDefinition("openingHoursParser").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("openingHoursValidator").isLazyInit()).isTrue();
+    }
+
+    @Test
+    void givenFastStartupProfile_whenBoot_thenSelfValidatingBeansAreEager() {
+        assertThat(beanFactory.getBeanDefinition("concurrencyLimiter").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("errorLogger").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("accessLog").isLazyInit()).isFalse();
+    }
+}
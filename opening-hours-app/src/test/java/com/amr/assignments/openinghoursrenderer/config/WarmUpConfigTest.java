@@ -0,0 +1,51 @@
+package com.amr.assignments.openinghoursrenderer.config;
+
+import com.amr.assignments.openinghoursrenderer.warmup.JitWarmUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "opening-hours.warm-up.iterations=500")
+@AutoConfigureMockMvc
+class WarmUpConfigTest {
+
+    private JitWarmUp jitWarmUp;
+    private ApplicationAvailability applicationAvailability;
+    private MeterRegistry meterRegistry;
+    private MockMvc mockMvc;
+
+    @Autowired
+    WarmUpConfigTest(JitWarmUp jitWarmUp, ApplicationAvailability applicationAvailability,
+                     MeterRegistry meterRegistry, MockMvc mockMvc) {
+        this.jitWarmUp = jitWarmUp;
+        this.applicationAvailability = applicationAvailability;
+        this.meterRegistry = meterRegistry;
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    void givenWarmUpCompleted_whenReadiness_thenAcceptingTraffic() throws Exception {
+        assertThat(jitWarmUp.isCompleted()).isTrue();
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        this.mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void givenWarmUpCompleted_whenMetrics_thenIterationsAndDurationExposed() {
+        assertThat(meterRegistry.get("opening_hours.warm_up.iterations").gauge().value()).isEqualTo(500.0);
+        assertThat(meterRegistry.get("opening_hours.warm_up.duration").timeGauge()).isNotNull();
+    }
+}
@@ -0,0 +1,299 @@
+package com.amr.assignments.openinghoursrenderer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OpeningHoursControllerTestEvent {
+
+    public static final MediaType APPLICATION_JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON.getType(),
+            MediaType.APPLICATION_JSON.getSubtype(), StandardCharsets.UTF_8);
+
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    OpeningHoursControllerTestEvent(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    void shouldReturnCompleteResponse() throws Exception {
+        final String requestJson = "{\"MONDAY\":[]," +
+                "\"TUESDAY\":[{\"type\":\"OPEN\",\"value\":36000},{\"type\":\"CLOSE\",\"value\":64800}]," +
+                "\"WEDNESDAY\":[]," +
+                "\"THURSDAY\":[{\"type\":\"OPEN\",\"value\":37800},{\"type\":\"CLOSE\",\"value\":64800}]," +
+                "\"FRIDAY\":[{\"type\":\"OPEN\",\"value\":36000}]," +
+                "\"SATURDAY\":[{\"type\":\"CLOSE\",\"value\":3600},{\"type\":\"OPEN\",\"value\":36000}]," +
+                "\"SUNDAY\":[{\"type\":\"CLOSE\",\"value\":3600},{\"type\":\"OPEN\",\"value\":43200},{\"type\":\"CLOSE\",\"value\":75600}]}";
+
+        final String expectedResponse = "Monday: Closed" + System.lineSeparator() +
+                                "Tuesday: 10 AM - 6 PM" + System.lineSeparator() +
+                                "Wednesday: Closed" + System.lineSeparator() +
+                                "Thursday: 10:30 AM - 6 PM" + System.lineSeparator() +
+                                "Friday: 10 AM - 1 AM" + System.lineSeparator() +
+                                "Saturday: 10 AM - 1 AM" + System.lineSeparator() +
+                                "Sunday: 12 PM - 9 PM";
+
+        assertOkAndResponse(requestJson, expectedResponse);
+    }
+
+    @Test
+    void shouldBeCaseInsensitiveForEnumTypes() throws Exception {
+        final String requestJson = "{\"MONDAY\":[]," +
+                "\"Saturday\":[{\"type\":\"cLOSE\",\"value\":3600},{\"type\":\"OPEN\",\"value\":36000}]," +
+                "\"sunday\":[{\"type\":\"close\",\"value\":3600},{\"type\":\"Open\",\"value\":43200},{\"type\":\"ClOsE\",\"value\":75600}]}";
+
+        final String expectedResponse = "Saturday: 10 AM - 1 AM" + System.lineSeparator() +
+                                "Sunday: 12 PM - 9 PM";
+
+        assertOkAndResponse(requestJson, expectedResponse);
+    }
+
+    @Test
+    void shouldNotAcceptInvalidDayOfWeek() throws Exception {
+        final String requestJson = "{\"bla\":[]}";
+
+        assertBadRequest(requestJson);
+    }
+
+    @Test
+    void shouldNotAcceptInvalidOpeningHourType() throws Exception {
+        final String requestJson = "{\"MONDAY\":[{\"type\":\"bla\",\"value\":3600}]}";
+
+        assertBadRequest(requestJson);
+    }
+
+    @Test
+    void shouldHandleNullOpeningHoursList() throws Exception {
+        final String requestJson = "{\"MONDAY\": null}";
+
+        String expectedResponse = "";
+
+        assertOkAndResponse(requestJson, expectedResponse);
+    }
+
+    @Test
+    void shouldHandleEmptyOpeningHours() throws Exception {
+        final String requestJson = "{}";
+
+        String expectedResponse = "";
+
+        assertOkAndResponse(requestJson, expectedResponse);
+    }
+
+
+    @Test
+    void shouldNotAcceptOutOfRangeSecondsOfDay() throws Exception {
+        final String requestJson = "{\"MONDAY\":[{\"type\":\"open\",\"value\":-1}],{\"type\":\"close\",\"value\":999999999}]}";
+
+        assertBadRequest(requestJson);
+    }
+
+    @Test
+    void shouldReportEveryValidationError() throws Exception {
+        final String requestJson = "{\"MONDAY\":[{\"type\":\"bla\",\"value\":3600},{\"type\":\"open\",\"value\":-1}]}";
+
+        this.mockMvc.perform(post("/opening-hours").contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("INVALID_TYPE"))
+                .andExpect(jsonPath("$[0].day").value("MONDAY"))
+                .andExpect(jsonPath("$[0].position").value(0))
+                .andExpect(jsonPath("$[1].code").value("OUT_OF_RANGE_SECONDS"))
+                .andExpect(jsonPath("$[1].position").value(1));
+    }
+
+    @Test
+    void shouldRejectTooManyEventsPerRequest() throws Exception {
+        final String event = "{\"type\":\"open\",\"value\":3600}";
+        final String requestJson = "{\"MONDAY\":[" + String.join(",", Collections.nCopies(1001, event)) + "]}";
+
+        this.mockMvc.perform(post("/opening-hours").contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void shouldCountOnlyEventsOfScheduleTowardsLimit() throws Exception {
+        // 1000 events in total, as many as allowed, wrapped in schedule and override objects
+        final String requestJson = "{\"weeklyOpeningHours\":{\"monday\":[" + openingPeriods(498) + "]}," +
+                "\"overrides\":{\"2026-12-28\":[" + openingPeriods(2) + "]}}";
+
+        this.mockMvc.perform(post("/opening-hours/schedule").param("from", "2026-12-28").param("days", "1")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRenderScheduleWithDateOverrides() throws Exception {
+        final String requestJson = "{\"weeklyOpeningHours\":{" +
+                "\"friday\":[{\"type\":\"open\",\"value\":36000},{\"type\":\"close\",\"value\":64800}]}," +
+                "\"overrides\":{\"2026-12-25\":[]}}";
+
+        final String expectedResponse = "Friday 2026-12-25: Closed" + System.lineSeparator() +
+                                "Friday 2027-01-01: 10 AM - 6 PM";
+
+        this.mockMvc.perform(post("/opening-hours/schedule").param("from", "2026-12-25").param("days", "8")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(content().string(expectedResponse));
+    }
+
+    @Test
+    void shouldReportEveryValidationErrorOfSchedule() throws Exception {
+        final String requestJson = "{\"weeklyOpeningHours\":{\"friday\":[]}," +
+                "\"overrides\":{\"2026-12-24\":[{\"type\":\"open\",\"value\":64800}]}}";
+
+        this.mockMvc.perform(post("/opening-hours/schedule").param("from", "2026-12-24")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("UNMATCHED_OPEN"))
+                .andExpect(jsonPath("$[0].day").value("2026-12-24"))
+                .andExpect(jsonPath("$[0].position").value(0));
+        this.mockMvc.perform(post("/opening-hours/schedule/open").param("at", "2026-12-24T20:00")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(post("/opening-hours/schedule").param("from", "2026-12-24").param("days", "0")
+                        .contentType(APPLICATION_JSON_UTF8).content("{\"weeklyOpeningHours\":{}}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportIntervalsOfOvernightPeriodBeforeClosedOverride() throws Exception {
+        final String requestJson = "{\"weeklyOpeningHours\":{" +
+                "\"thursday\":[{\"type\":\"open\",\"value\":64800}]," +
+                "\"friday\":[{\"type\":\"close\",\"value\":7200}]}," +
+                "\"overrides\":{\"2026-12-25\":[]}}";
+
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(post("/opening-hours/schedule/intervals")
+                                .param("from", "2026-12-24").param("weeks", "1")
+                                .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                        .andExpect(request().asyncStarted())
+                        .andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].start").value("2026-12-24T18:00:00"))
+                .andExpect(jsonPath("$[0].end").value("2026-12-25T02:00:00"));
+    }
+
+    @Test
+    void shouldNotStartExportOfInvalidScheduleOrRange() throws Exception {
+        final String invalidJson = "{\"weeklyOpeningHours\":{\"friday\":[{\"type\":\"open\",\"value\":72000}]}," +
+                "\"overrides\":{\"2026-12-24\":[{\"type\":\"open\",\"value\":72000}]}}";
+        final String validJson = "{\"weeklyOpeningHours\":{\"friday\":[]}}";
+
+        this.mockMvc.perform(post("/opening-hours/schedule/calendar").param("from", "2026-12-21")
+                        .contentType(APPLICATION_JSON_UTF8).content(invalidJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("UNMATCHED_OPEN"))
+                .andExpect(jsonPath("$[0].day").value("Friday"))
+                .andExpect(jsonPath("$[1].day").value("2026-12-24"));
+        this.mockMvc.perform(post("/opening-hours/schedule/intervals").param("from", "2026-12-21").param("weeks", "0")
+                        .contentType(APPLICATION_JSON_UTF8).content(validJson))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(post("/opening-hours/schedule/intervals").param("from", "2026-12-21")
+                        .param("weeks", String.valueOf(Integer.MAX_VALUE))
+                        .contentType(APPLICATION_JSON_UTF8).content(validJson))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRenderCoverageOfInlineAndRegisteredSchedules() throws Exception {
+        this.mockMvc.perform(put("/opening-hours/registry/branch-1").contentType(APPLICATION_JSON_UTF8)
+                        .content("{\"friday\":[{\"type\":\"open\",\"value\":36000},{\"type\":\"close\",\"value\":64800}]}"))
+                .andExpect(status().isNoContent());
+        this.mockMvc.perform(get("/opening-hours/registry/branch-1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Friday: 10 AM - 6 PM"));
+
+        final String requestJson = "{\"ids\":[\"branch-1\"],\"schedules\":[" +
+                "{\"friday\":[{\"type\":\"open\",\"value\":43200},{\"type\":\"close\",\"value\":79200}]}]}";
+
+        this.mockMvc.perform(post("/opening-hours/coverage").param("atLeast", "all")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Friday: 12 PM - 6 PM")));
+        this.mockMvc.perform(post("/opening-hours/coverage")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Friday: 10 AM - 10 PM")));
+    }
+
+    @Test
+    void shouldReportValidationErrorsOfInlineCoverageSchedule() throws Exception {
+        final String requestJson = "{\"schedules\":[" +
+                "{\"friday\":[{\"type\":\"open\",\"value\":36000},{\"type\":\"close\",\"value\":64800}]}," +
+                "{\"friday\":[],\"saturday\":[{\"type\":\"close\",\"value\":36000}]}]}";
+
+        this.mockMvc.perform(post("/opening-hours/coverage")
+                        .contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("UNMATCHED_CLOSE"))
+                .andExpect(jsonPath("$[0].day").value("Saturday"))
+                .andExpect(jsonPath("$[0].position").value(0));
+    }
+
+    @Test
+    void shouldNotRenderCoverageOfUnknownRestaurant() throws Exception {
+        this.mockMvc.perform(post("/opening-hours/coverage")
+                        .contentType(APPLICATION_JSON_UTF8).content("{\"ids\":[\"unknown\"]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldFindOpenRestaurantsAndHeatmapOfRegisteredSchedules() throws Exception {
+        this.mockMvc.perform(put("/opening-hours/registry/stall-1").contentType(APPLICATION_JSON_UTF8)
+                        .content("{\"wednesday\":[{\"type\":\"open\",\"value\":36000},{\"type\":\"close\",\"value\":64800}]}"))
+                .andExpect(status().isNoContent());
+
+        this.mockMvc.perform(get("/opening-hours/open").param("day", "wednesday").param("time", "12:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("stall-1"));
+        this.mockMvc.perform(get("/opening-hours/heatmap").param("slotMinutes", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wednesday.length()").value(48))
+                .andExpect(jsonPath("$.wednesday[19]").value(0))
+                .andExpect(jsonPath("$.wednesday[20]").value(1));
+        this.mockMvc.perform(get("/opening-hours/heatmap").param("slotMinutes", "7"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/opening-hours/open").param("day", "someday").param("time", "12:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    private void assertOkAndResponse(final String requestJson, final String expectedResponse) throws Exception {
+        this.mockMvc.perform(post("/opening-hours").contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(expectedResponse)));
+    }
+
+    private void assertBadRequest(final String requestJson) throws Exception {
+        this.mockMvc.perform(post("/opening-hours").contentType(APPLICATION_JSON_UTF8).content(requestJson))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String openingPeriods(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"type\":\"open\",\"value\":" + i * 60 + "}," +
+                        "{\"type\":\"close\",\"value\":" + (i * 60 + 30) + "}")
+                .collect(Collectors.joining(","));
+    }
+}
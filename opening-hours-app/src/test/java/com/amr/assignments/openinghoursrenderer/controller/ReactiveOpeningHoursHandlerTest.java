@@ -0,0 +1,102 @@
+package com.amr.assignments.openinghoursrenderer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveOpeningHoursHandlerTest {
+
+    private WebTestClient webTestClient;
+
+    @Autowired
+    ReactiveOpeningHoursHandlerTest(WebTestClient webTestClient) {
+        this.webTestClient = webTestClient;
+    }
+
+    @Test
+    void shouldReturnCompleteResponse() {
+        final String requestJson = "{\"MONDAY\":[]," +
+                "\"TUESDAY\":[{\"type\":\"OPEN\",\"value\":36000},{\"type\":\"CLOSE\",\"value\":64800}]," +
+                "\"WEDNESDAY\":[]," +
+                "\"THURSDAY\":[{\"type\":\"OPEN\",\"value\":37800},{\"type\":\"CLOSE\",\"value\":64800}]," +
+                "\"FRIDAY\":[{\"type\":\"OPEN\",\"value\":36000}]," +
+                "\"SATURDAY\":[{\"type\":\"CLOSE\",\"value\":3600},{\"type\":\"OPEN\",\"value\":36000}]," +
+                "\"SUNDAY\":[{\"type\":\"CLOSE\",\"value\":3600},{\"type\":\"OPEN\",\"value\":43200},{\"type\":\"CLOSE\",\"value\":75600}]}";
+
+        final String expectedResponse = "Monday: Closed" + System.lineSeparator() +
+                                "Tuesday: 10 AM - 6 PM" + System.lineSeparator() +
+                                "Wednesday: Closed" + System.lineSeparator() +
+                                "Thursday: 10:30 AM - 6 PM" + System.lineSeparator() +
+                                "Friday: 10 AM - 1 AM" + System.lineSeparator() +
+                                "Saturday: 10 AM - 1 AM" + System.lineSeparator() +
+                                "Sunday: 12 PM - 9 PM";
+
+        webTestClient.post().uri("/opening-hours")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void shouldReportEveryValidationError() {
+        final String requestJson = "{\"MONDAY\":[{\"type\":\"bla\",\"value\":3600},{\"type\":\"open\",\"value\":-1}]}";
+
+        webTestClient.post().uri("/opening-hours")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].code").isEqualTo("INVALID_TYPE")
+                .jsonPath("$[0].day").isEqualTo("MONDAY")
+                .jsonPath("$[1].code").isEqualTo("OUT_OF_RANGE_SECONDS")
+                .jsonPath("$[1].position").isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnBadRequestForMalformedBody() {
+        webTestClient.post().uri("/opening-hours/schedule?from=2026-12-25")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"weeklyOpeningHours\":")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("Wait, we've got something weird here. Invalid data received!");
+    }
+
+    @Test
+    void shouldRenderScheduleWithDateOverrides() {
+        final String requestJson = "{\"weeklyOpeningHours\":" +
+                "{\"FRIDAY\":[{\"type\":\"OPEN\",\"value\":36000},{\"type\":\"CLOSE\",\"value\":64800}]}," +
+                "\"overrides\":{\"2026-12-25\":[]}}";
+
+        webTestClient.post().uri("/opening-hours/schedule?from=2026-12-25&days=8")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Friday 2026-12-25: Closed" + System.lineSeparator() +
+                        "Friday 2027-01-01: 10 AM - 6 PM");
+    }
+
+    @Test
+    void shouldReportEveryValidationErrorOfSchedule() {
+        final String requestJson = "{\"weeklyOpeningHours\":{\"friday\":[]}," +
+                "\"overrides\":{\"2026-12-24\":[{\"type\":\"open\",\"value\":64800}]}}";
+
+        webTestClient.post().uri("/opening-hours/schedule/open?at=2026-12-24T20:00")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestJson)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].code").isEqualTo("UNMATCHED_OPEN")
+                .jsonPath("$[0].day").isEqualTo("2026-12-24");
+    }
+}
@@ -0,0 +1,159 @@
+package com.amr.assignments.openinghoursrenderer.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogTest {
+
+    // writer thread that never drains: entries stay buffered until close
+    private static final ThreadFactory IDLE_WRITER = runnable -> new Thread(() -> {});
+
+    @Test
+    void givenRequests_whenClose_thenOneJsonLinePerRequestAppendedToFile(@TempDir final Path directory)
+            throws Exception {
+        final Path file = directory.resolve("logs/access.log");
+        final AccessLog accessLog = new AccessLog(file, 16, 4, 1, Duration.ofMillis(10));
+
+        for (int i = 0; i < 10; i++) {
+            accessLog.log("/opening-hours", 200, 1_500_000L, 57);
+        }
+        accessLog.close();
+
+        final List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(10);
+        assertThat(lines.get(0))
+                .startsWith("{\"timestamp\":\"")
+                .endsWith("\",\"endpoint\":\"/opening-hours\",\"status\":200,\"durationMicros\":1500,"
+                        + "\"responseLength\":57}");
+        assertThat(accessLog.getWritten()).isEqualTo(10L);
+        assertThat(accessLog.getDropped()).isEqualTo(0L);
+    }
+
+    @Test
+    void givenFullBuffer_whenLog_thenEntryDroppedAndCounted() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final AccessLog accessLog = new AccessLog(writer, 4, 2, 1, Duration.ofMillis(10), IDLE_WRITER);
+
+        for (int i = 0; i < 6; i++) {
+            accessLog.log("/opening-hours", 200, 1000L, 10);
+        }
+        accessLog.close();
+
+        assertThat(accessLog.getDropped()).isEqualTo(2L);
+        assertThat(accessLog.getWritten()).isEqualTo(4L);
+        assertThat(writer.toString().split("\n")).hasSize(4);
+    }
+
+    @Test
+    void givenSampling_whenLog_thenOnlyOneOutOfEveryNBuffered() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final AccessLog accessLog = new AccessLog(writer, 16, 16, 3, Duration.ofMillis(10), IDLE_WRITER);
+
+        for (int i = 0; i < 9; i++) {
+            accessLog.log("/opening-hours", 200, 1000L, 10);
+        }
+        accessLog.close();
+
+        assertThat(accessLog.getWritten()).isEqualTo(3L);
+        assertThat(accessLog.getDropped()).isEqualTo(0L);
+    }
+
+    @Test
+    void givenCapacityNotPowerOfTwo_whenLog_thenRoundedUp() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final AccessLog accessLog = new AccessLog(writer, 5, 16, 1, Duration.ofMillis(10), IDLE_WRITER);
+
+        for (int i = 0; i < 9; i++) {
+            accessLog.log("/opening-hours", 200, 1000L, 10);
+        }
+        accessLog.close();
+
+        assertThat(accessLog.getWritten()).isEqualTo(8L);
+        assertThat(accessLog.getDropped()).isEqualTo(1L);
+    }
+
+    @Test
+    void givenEndpointWithQuotes_whenClose_thenEndpointEscaped() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final AccessLog accessLog = new AccessLog(writer, 4, 4, 1, Duration.ofMillis(10), IDLE_WRITER);
+
+        accessLog.log("/opening-hours\",\"status\":500\n", 200, 1000L, 10);
+        accessLog.close();
+
+        assertThat(writer.toString()).contains("\"endpoint\":\"/opening-hours\\\",\\\"status\\\":500\\n\",\"status\":200,");
+        assertThat(writer.toString().split("\n")).hasSize(1);
+    }
+
+    @Test
+    void givenWriterThrowingRuntimeException_whenClose_thenBatchDroppedAndNextBatchesWritten() throws Exception {
+        final StringWriter target = new StringWriter();
+        final AtomicBoolean failed = new AtomicBoolean();
+        final StringWriter writer = new StringWriter() {
+            @Override
+            public void write(final String str) {
+                if (failed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("boom");
+                }
+                target.write(str);
+            }
+        };
+        final AccessLog accessLog = new AccessLog(writer, 8, 1, 1, Duration.ofMillis(10), IDLE_WRITER);
+
+        for (int i = 0; i < 3; i++) {
+            accessLog.log("/opening-hours", 200, 1000L, 10);
+        }
+        accessLog.close();
+
+        assertThat(accessLog.getDropped()).isEqualTo(1L);
+        assertThat(accessLog.getWritten()).isEqualTo(2L);
+        assertThat(target.toString().split("\n")).hasSize(2);
+    }
+
+    @Test
+    void givenWriterStuckInWrite_whenClose_thenWriterInterruptedBeforeFileClosed() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final AtomicBoolean closedWhileWriting = new AtomicBoolean();
+        final AtomicBoolean inWrite = new AtomicBoolean();
+        final StringWriter writer = new StringWriter() {
+            @Override
+            public void write(final String str) {
+                inWrite.set(true);
+                writing.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(new InterruptedIOException());
+                } finally {
+                    inWrite.set(false);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                closedWhileWriting.set(inWrite.get());
+                super.close();
+            }
+        };
+        final AccessLog accessLog = new AccessLog(writer, 4, 4, 1, Duration.ofMillis(10), Thread::new);
+
+        accessLog.log("/opening-hours", 200, 1000L, 10);
+        writing.await();
+        accessLog.close();
+
+        assertThat(closedWhileWriting.get()).isFalse();
+        assertThat(accessLog.getDropped()).isEqualTo(1L);
+    }
+}
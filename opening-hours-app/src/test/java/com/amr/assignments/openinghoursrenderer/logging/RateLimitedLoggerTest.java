@@ -0,0 +1,67 @@
+package com.amr.assignments.openinghoursrenderer.logging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitedLoggerTest {
+
+    private Logger logger;
+    private AtomicLong nanoTime;
+
+    @BeforeEach
+    public void setup() {
+        logger = mock(Logger.class);
+        when(logger.isErrorEnabled()).thenReturn(true);
+        nanoTime = new AtomicLong();
+    }
+
+    @Test
+    void givenMoreErrorsThanAllowedPerInterval_whenError_thenExcessSuppressed() {
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(logger, 1, 2, Duration.ofSeconds(1), nanoTime::get);
+
+        for (int i = 0; i < 5; i++) {
+            rateLimitedLogger.error("Unexpected error", new RuntimeException());
+        }
+
+        verify(logger, times(2)).error(eq("Unexpected error"), any(Throwable.class));
+        assertThat(rateLimitedLogger.getSuppressed()).isEqualTo(3L);
+    }
+
+    @Test
+    void givenNextInterval_whenError_thenLoggedWithSuppressedCount() {
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(logger, 1, 1, Duration.ofSeconds(1), nanoTime::get);
+
+        rateLimitedLogger.error("Unexpected error", new RuntimeException());
+        rateLimitedLogger.error("Unexpected error", new RuntimeException());
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        rateLimitedLogger.error("Unexpected error", new RuntimeException());
+
+        verify(logger).error(eq("Unexpected error (1 similar messages suppressed)"), any(Throwable.class));
+        assertThat(rateLimitedLogger.getSuppressed()).isEqualTo(0L);
+    }
+
+    @Test
+    void givenSampling_whenError_thenOnlyOneOutOfEveryNLogged() {
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(logger, 3, 100, Duration.ofSeconds(1), nanoTime::get);
+
+        for (int i = 0; i < 9; i++) {
+            rateLimitedLogger.error("Unexpected error", new RuntimeException());
+        }
+
+        verify(logger, times(3)).error(anyString(), any(Throwable.class));
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.amr.assignments.openinghoursrenderer.warmup;
+
+import com.amr.assignments.openinghoursrenderer.json.OpeningHoursJson;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JitWarmUpTest {
+
+    private static final String VALID = "{\"friday\":[{\"type\":\"open\",\"value\":36000}]," +
+            "\"saturday\":[{\"type\":\"close\",\"value\":3600}]}";
+    private static final String INVALID = "{\"monday\":[{\"type\":\"bla\",\"value\":-1}]}";
+
+    @Test
+    void givenIterations_whenWarmUp_thenStopsAfterIterations() {
+        final JitWarmUp warmUp = warmUpOf(corpus("[" + VALID + "," + INVALID + "]"), 10, Duration.ofSeconds(10));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.isCompleted()).isTrue();
+        assertThat(warmUp.getIterations()).isEqualTo(10L);
+    }
+
+    @Test
+    void givenDuration_whenWarmUp_thenStopsAfterDuration() {
+        final JitWarmUp warmUp = warmUpOf(corpus("[" + VALID + "]"), Long.MAX_VALUE, Duration.ofMillis(50));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.isCompleted()).isTrue();
+        assertThat(warmUp.getIterations()).isPositive();
+        assertThat(warmUp.getDurationMillis()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void givenCapturedRequestsOnePerLine_whenWarmUp_thenEveryRequestReplayed() {
+        final JitWarmUp warmUp = warmUpOf(corpus(VALID + "\n" + INVALID + "\n"), 4, Duration.ofSeconds(10));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.getIterations()).isEqualTo(4L);
+    }
+
+    @Test
+    void givenMissingCorpus_whenWarmUp_thenSkipped() {
+        final JitWarmUp warmUp = warmUpOf(new ClassPathResource("warmup/missing.json"), 10, Duration.ofSeconds(10));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.isCompleted()).isTrue();
+        assertThat(warmUp.getIterations()).isZero();
+    }
+
+    @Test
+    void givenBundledCorpus_whenWarmUp_thenEveryEntryRendered() {
+        final JitWarmUp warmUp = warmUpOf(new ClassPathResource("warmup/opening-hours-corpus.json"), 100,
+                Duration.ofSeconds(10));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.getIterations()).isEqualTo(100L);
+    }
+
+    private JitWarmUp warmUpOf(final Resource corpus, final long iterations, final Duration maxDuration) {
+        final OpeningHoursParser parser = new OpeningHoursParser();
+        return new JitWarmUp(OpeningHoursJson.newObjectMapper(), new OpeningHoursValidator(), parser,
+                new EffectiveScheduleService(parser), corpus, iterations, maxDuration);
+    }
+
+    private Resource corpus(final String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
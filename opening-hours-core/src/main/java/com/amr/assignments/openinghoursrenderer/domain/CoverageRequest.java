@@ -0,0 +1,37 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Restaurants to be combined: weekly opening hours informed inline and/or ids of registered ones
+ */
+public class CoverageRequest {
+
+    private List<Map<DayOfWeek, List<OpeningHourEvent>>> schedules = Collections.emptyList();
+    private List<String> ids = Collections.emptyList();
+
+    public CoverageRequest() {}
+
+    public CoverageRequest(final List<Map<DayOfWeek, List<OpeningHourEvent>>> schedules, final List<String> ids) {
+        setSchedules(schedules);
+        setIds(ids);
+    }
+
+    public List<Map<DayOfWeek, List<OpeningHourEvent>>> getSchedules() {
+        return schedules;
+    }
+
+    public void setSchedules(final List<Map<DayOfWeek, List<OpeningHourEvent>>> schedules) {
+        this.schedules = schedules == null ? Collections.emptyList() : schedules;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(final List<String> ids) {
+        this.ids = ids == null ? Collections.emptyList() : ids;
+    }
+}
@@ -0,0 +1,73 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Day of the week
+ */
+public enum DayOfWeek {
+
+    MONDAY("Monday"),
+    TUESDAY("Tuesday"),
+    WEDNESDAY("Wednesday"),
+    THURSDAY("Thursday"),
+    FRIDAY("Friday"),
+    SATURDAY("Saturday"),
+    SUNDAY("Sunday");
+
+    private String name;
+
+    DayOfWeek(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @JsonCreator
+    public static DayOfWeek of(final String name) {
+        return find(name).orElseThrow(() -> new IllegalArgumentException("Invalid day of week"));
+    }
+
+    /**
+     * Find day of the week by its name (case insensitive) without throwing if not found
+     * @param name day of the week name
+     * @return day of the week, empty if invalid name
+     */
+    public static Optional<DayOfWeek> find(final String name) {
+        return Stream.of(values())
+                .filter(v -> v.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    /**
+     * Get day of the week of a given date
+     * @param date date
+     * @return day of the week the date falls on
+     */
+    public static DayOfWeek from(final LocalDate date) {
+        return values()[date.getDayOfWeek().ordinal()];
+    }
+
+    /**
+     * Get next day of the week, i.e. tomorrow
+     * @return tomorrow
+     */
+    public DayOfWeek tomorrow() {
+        return values()[(this.ordinal() + 1) % values().length];
+    }
+
+    /**
+     * Get previous day of the week, i.e. yesterday
+     * @return yesterday
+     */
+    public DayOfWeek yesterday() {
+        return values()[(this.ordinal() + values().length - 1) % values().length];
+    }
+
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.amr.assignments.openinghoursrenderer.domain;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -24,9 +25,17 @@ public enum OpeningHourEventType {
 
     @JsonCreator
     public static OpeningHourEventType of(final String value) {
+        return find(value).orElseThrow(IllegalArgumentException::new);
+    }
+
+    /**
+     * Find opening hour event type by its value (case insensitive) without throwing if not found
+     * @param value opening hour event type value
+     * @return opening hour event type, empty if invalid value
+     */
+    public static Optional<OpeningHourEventType> find(final String value) {
         return Stream.of(values())
                 .filter(v -> v.getValue().equalsIgnoreCase(value))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+                .findFirst();
     }
 }
@@ -0,0 +1,61 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Concrete opening interval, i.e. an opening period placed on a given date
+ */
+public class OpeningInterval {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    public OpeningInterval(final LocalDateTime start, final LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Place an opening period on the date it opens
+     *
+     * @param date date the period opens
+     * @param openingPeriod opening period
+     * @return opening interval (ending on the next date if overnight period)
+     */
+    public static OpeningInterval of(final LocalDate date, final OpeningPeriod openingPeriod) {
+        final LocalDate closeDate = openingPeriod.isOvernight() ? date.plusDays(1) : date;
+        return new OpeningInterval(date.atTime(openingPeriod.getOpen()), closeDate.atTime(openingPeriod.getClose()));
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OpeningInterval other = (OpeningInterval) o;
+        return start.equals(other.start) && end.equals(other.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return start + "/" + end;
+    }
+}
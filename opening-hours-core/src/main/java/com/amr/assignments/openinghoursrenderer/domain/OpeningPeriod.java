@@ -0,0 +1,65 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.time.LocalTime;
+
+/**
+ * Opening period of a day, i.e. an open hour paired with its close hour. Close hour may fall on the next day
+ * (overnight period)
+ */
+public class OpeningPeriod {
+
+    public static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final LocalTime open;
+    private final LocalTime close;
+
+    public OpeningPeriod(final LocalTime open, final LocalTime close) {
+        if (open == null || close == null) {
+            throw new IllegalArgumentException("time not informed");
+        }
+        this.open = open;
+        this.close = close;
+    }
+
+    public LocalTime getOpen() {
+        return open;
+    }
+
+    public LocalTime getClose() {
+        return close;
+    }
+
+    /**
+     * Check if period ends on the next day, i.e. close hour is not after open hour
+     * @return true if overnight period
+     */
+    public boolean isOvernight() {
+        return !close.isAfter(open);
+    }
+
+    /**
+     * @return open hour as second of the day
+     */
+    public int getStartSecond() {
+        return open.toSecondOfDay();
+    }
+
+    /**
+     * @return close hour as second relative to the start of the day the period opens (beyond
+     * {@link #SECONDS_PER_DAY} if overnight period)
+     */
+    public int getEndSecond() {
+        return close.toSecondOfDay() + (isOvernight() ? SECONDS_PER_DAY : 0);
+    }
+
+    /**
+     * Check if the period is open at given second, relative to the start of the day the period opens
+     *
+     * @param second second relative to the start of the day the period opens (may be beyond {@link #SECONDS_PER_DAY}
+     *               to query the overnight part of the period)
+     * @return true if open hour is not after and close hour is after given second
+     */
+    public boolean isOpenAt(final int second) {
+        return second >= getStartSecond() && second < getEndSecond();
+    }
+}
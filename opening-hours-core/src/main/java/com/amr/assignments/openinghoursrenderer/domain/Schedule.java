@@ -0,0 +1,92 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Restaurant schedule: repeating weekly opening hours plus date-specific overrides (holidays, special hours).
+ * An override with no events means closed on that date. An overnight period opened the day before an override keeps
+ * its weekly close hour, unless the override starts by closing it
+ */
+public class Schedule {
+
+    private Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours = Collections.emptyMap();
+    private NavigableMap<LocalDate, List<OpeningHourEvent>> overrides = new TreeMap<>();
+
+    public Schedule() {}
+
+    public Schedule(final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours,
+                    final Map<LocalDate, List<OpeningHourEvent>> overrides) {
+        setWeeklyOpeningHours(weeklyOpeningHours);
+        setOverrides(overrides);
+    }
+
+    public Map<DayOfWeek, List<OpeningHourEvent>> getWeeklyOpeningHours() {
+        return weeklyOpeningHours;
+    }
+
+    public void setWeeklyOpeningHours(final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        this.weeklyOpeningHours = weeklyOpeningHours == null ? Collections.emptyMap() : weeklyOpeningHours;
+    }
+
+    public NavigableMap<LocalDate, List<OpeningHourEvent>> getOverrides() {
+        return Collections.unmodifiableNavigableMap(overrides);
+    }
+
+    public void setOverrides(final Map<LocalDate, List<OpeningHourEvent>> overrides) {
+        final NavigableMap<LocalDate, List<OpeningHourEvent>> index = new TreeMap<>();
+        if (overrides != null) {
+            // null entries carry no information, so they do not override the weekly opening hours
+            overrides.forEach((date, events) -> {
+                if (date != null && events != null) {
+                    index.put(date, events);
+                }
+            });
+        }
+        this.overrides = index;
+    }
+
+    /**
+     * Check if any override falls within given dates range
+     *
+     * @param from first date (inclusive)
+     * @param to last date (inclusive)
+     * @return true if at least one override applies to the range
+     */
+    public boolean hasOverridesBetween(final LocalDate from, final LocalDate to) {
+        if (overrides.isEmpty()) {
+            return false;
+        }
+        final LocalDate first = overrides.ceilingKey(from);
+        return first != null && !first.isAfter(to);
+    }
+
+    /**
+     * @param date date
+     * @return true if the date has an override
+     */
+    public boolean hasOverrideOn(final LocalDate date) {
+        return !overrides.isEmpty() && overrides.containsKey(date);
+    }
+
+    /**
+     * Get effective opening hour events of a date: the override of that date if any, otherwise the weekly opening
+     * hours of its day of the week
+     *
+     * @param date date
+     * @return opening hour events of the date (null if not informed)
+     */
+    public List<OpeningHourEvent> openingHoursOn(final LocalDate date) {
+        if (!overrides.isEmpty()) {
+            final List<OpeningHourEvent> override = overrides.get(date);
+            if (override != null) {
+                return override;
+            }
+        }
+        return weeklyOpeningHours.get(DayOfWeek.from(date));
+    }
+}
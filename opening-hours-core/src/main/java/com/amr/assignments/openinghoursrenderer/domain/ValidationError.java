@@ -0,0 +1,63 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.util.Objects;
+
+/**
+ * Opening hours validation error, located by day and position of the event within the day (if applicable)
+ */
+public class ValidationError {
+
+    private final ValidationErrorCode code;
+    private final String day;
+    private final Integer position;
+
+    public ValidationError(final ValidationErrorCode code, final String day, final Integer position) {
+        this.code = code;
+        this.day = day;
+        this.position = position;
+    }
+
+    public ValidationErrorCode getCode() {
+        return code;
+    }
+
+    /**
+     * @return day of the week name as informed, null if error is not related to a single day
+     */
+    public String getDay() {
+        return day;
+    }
+
+    /**
+     * @return zero-based position of the event within the day, null if error is not related to a single event
+     */
+    public Integer getPosition() {
+        return position;
+    }
+
+    public String getMessage() {
+        return code.getMessage();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ValidationError other = (ValidationError) o;
+        return code == other.code && Objects.equals(day, other.day) && Objects.equals(position, other.position);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, day, position);
+    }
+
+    @Override
+    public String toString() {
+        return code + (day == null ? "" : " at " + day + (position == null ? "" : "[" + position + "]"));
+    }
+}
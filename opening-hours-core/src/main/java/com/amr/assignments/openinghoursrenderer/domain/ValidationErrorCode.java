@@ -0,0 +1,32 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+/**
+ * Opening hours validation error code
+ */
+public enum ValidationErrorCode {
+
+    MALFORMED_SCHEDULE("opening hours must be an object keyed by day of the week"),
+    INVALID_DAY("invalid day of week"),
+    DUPLICATE_DAY("day of week informed more than once"),
+    MALFORMED_DAY("opening hours of a day must be a list of events"),
+    MALFORMED_EVENT("event must be an object with type and value only"),
+    INVALID_TYPE("event type must be open or close"),
+    MISSING_TIME("event time not informed"),
+    INVALID_TIME("event time must be an integer number of seconds"),
+    OUT_OF_RANGE_SECONDS("event time must be between 0 and 86399 seconds"),
+    DUPLICATE_EVENT("same event informed more than once"),
+    UNMATCHED_OPEN("open hour without a matching close hour"),
+    UNMATCHED_CLOSE("close hour without a matching open hour"),
+    CLOSE_BEFORE_OPEN("close hour before open hour"),
+    OVERLAPPING_PERIOD("period opens before previous period closes");
+
+    private final String message;
+
+    ValidationErrorCode(final String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
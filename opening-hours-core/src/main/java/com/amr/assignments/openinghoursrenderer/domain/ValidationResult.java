@@ -0,0 +1,34 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opening hours validation result: every error found plus, when valid, the validated weekly opening hours
+ */
+public class ValidationResult {
+
+    private final List<ValidationError> errors;
+    private final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours;
+
+    public ValidationResult(final List<ValidationError> errors,
+                            final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        this.errors = List.copyOf(errors);
+        this.weeklyOpeningHours = this.errors.isEmpty() ? weeklyOpeningHours : null;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return validated weekly opening hours, null if invalid
+     */
+    public Map<DayOfWeek, List<OpeningHourEvent>> getWeeklyOpeningHours() {
+        return weeklyOpeningHours;
+    }
+}
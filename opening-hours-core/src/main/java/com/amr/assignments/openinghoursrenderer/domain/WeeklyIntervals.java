@@ -0,0 +1,136 @@
+package com.amr.assignments.openinghoursrenderer.domain;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod.SECONDS_PER_DAY;
+
+/**
+ * Weekly opening hours compiled to intervals of seconds since Monday 12 AM: sorted, disjoint and not touching each
+ * other. An overnight period from Sunday to Monday is split at the end of the week
+ */
+public final class WeeklyIntervals {
+
+    public static final int SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+
+    private static final WeeklyIntervals CLOSED = new WeeklyIntervals(new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+
+    /**
+     * @param starts interval starts (inclusive), in seconds since Monday 12 AM
+     * @param ends interval ends (exclusive), in seconds since Monday 12 AM
+     */
+    public WeeklyIntervals(final int[] starts, final int[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("intervals not informed as start and end pairs");
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] < (i == 0 ? 0 : ends[i - 1] + 1) || ends[i] <= starts[i] || ends[i] > SECONDS_PER_WEEK) {
+                throw new IllegalArgumentException("intervals not sorted, disjoint and within the week");
+            }
+        }
+        this.starts = starts.clone();
+        this.ends = ends.clone();
+    }
+
+    public static WeeklyIntervals closed() {
+        return CLOSED;
+    }
+
+    /**
+     * @return number of intervals
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    public int getStart(final int index) {
+        return starts[index];
+    }
+
+    public int getEnd(final int index) {
+        return ends[index];
+    }
+
+    /**
+     * Check if open at a given day and time (binary search)
+     *
+     * @param day day of the week
+     * @param time time of the day
+     * @return true if any interval contains given day and time
+     */
+    public boolean isOpenAt(final DayOfWeek day, final LocalTime time) {
+        final int second = day.ordinal() * SECONDS_PER_DAY + time.toSecondOfDay();
+        final int index = Arrays.binarySearch(starts, second);
+        final int candidate = index >= 0 ? index : -index - 2; // last interval starting at or before the second
+        return candidate >= 0 && second < ends[candidate];
+    }
+
+    /**
+     * Split intervals into opening periods by the day they open, e.g. to be rendered like weekly opening hours.
+     * Intervals longer than a day are split at midnight; shorter ones are kept whole as overnight periods, including
+     * the one from Sunday to Monday
+     *
+     * @return opening periods of every day of the week, ordered by open hour (empty if closed)
+     */
+    public Map<DayOfWeek, List<OpeningPeriod>> toOpeningPeriods() {
+        final Map<DayOfWeek, List<OpeningPeriod>> openingPeriods = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            openingPeriods.put(day, new ArrayList<>());
+        }
+
+        int first = 0;
+        int last = starts.length - 1;
+        // Sunday to Monday overnight period: one interval wrapping around the end of the week
+        final boolean wrapped = last > 0 && starts[0] == 0 && ends[last] == SECONDS_PER_WEEK;
+        if (wrapped) {
+            first = 1;
+        }
+        for (int i = first; i <= last; i++) {
+            final int end = wrapped && i == last ? SECONDS_PER_WEEK + ends[0] : ends[i];
+            for (int cursor = starts[i]; cursor < end; ) {
+                final int midnight = (cursor / SECONDS_PER_DAY + 1) * SECONDS_PER_DAY;
+                final int close = end - cursor <= SECONDS_PER_DAY ? end : midnight;
+                openingPeriods.get(DayOfWeek.values()[cursor / SECONDS_PER_DAY % 7]).add(new OpeningPeriod(
+                        LocalTime.ofSecondOfDay(cursor % SECONDS_PER_DAY),
+                        LocalTime.ofSecondOfDay(close % SECONDS_PER_DAY)));
+                cursor = close;
+            }
+        }
+        openingPeriods.values().forEach(periods -> periods.sort(Comparator.comparing(OpeningPeriod::getStartSecond)));
+        return openingPeriods;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final WeeklyIntervals other = (WeeklyIntervals) o;
+        return Arrays.equals(starts, other.starts) && Arrays.equals(ends, other.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder intervals = new StringBuilder("[");
+        for (int i = 0; i < starts.length; i++) {
+            intervals.append(i == 0 ? "" : ", ").append(starts[i]).append('-').append(ends[i]);
+        }
+        return intervals.append(']').toString();
+    }
+}
@@ -1,4 +1,4 @@
-package com.amr.assignments.openinghoursrenderer.config;
+package com.amr.assignments.openinghoursrenderer.json;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.ObjectCodec;
@@ -7,17 +7,23 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 
 import java.io.IOException;
 import java.time.LocalTime;
 
-@Configuration
-public class SerializationConfig {
+/**
+ * JSON mapping of opening hours, shared by every launcher: event times are informed as seconds of the day
+ */
+public final class OpeningHoursJson {
 
-    @Bean
-    public ObjectMapper serializingObjectMapper() {
+    private OpeningHoursJson() {}
+
+    /**
+     * Create an object mapper reading opening hour event times as seconds of the day
+     *
+     * @return new object mapper
+     */
+    public static ObjectMapper newObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         JavaTimeModule javaTimeModule = new JavaTimeModule();
         javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer());
@@ -25,7 +31,7 @@ public class SerializationConfig {
         return objectMapper;
     }
 
-    private class LocalTimeDeserializer extends JsonDeserializer<LocalTime> {
+    private static class LocalTimeDeserializer extends JsonDeserializer<LocalTime> {
 
         @Override
         public LocalTime deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext)
@@ -0,0 +1,88 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Consistent hashing of keys (restaurant ids) to nodes. Each node is placed at several points (virtual nodes) of a
+ * 64-bit ring, so keys spread evenly and only the keys of a joining or leaving node change owner. A point claimed by
+ * several nodes (hash collision) belongs to the smallest node id, so ownership only depends on the members, not on the
+ * order they joined in. Not thread-safe
+ */
+class ConsistentHashRing {
+
+    private final int virtualNodes;
+    private final ToLongFunction<String> hash;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> nodes = new LinkedHashSet<>();
+
+    ConsistentHashRing(final int virtualNodes) {
+        this(virtualNodes, ConsistentHashRing::hash);
+    }
+
+    ConsistentHashRing(final int virtualNodes, final ToLongFunction<String> hash) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("invalid number of virtual nodes");
+        }
+        this.virtualNodes = virtualNodes;
+        this.hash = hash;
+    }
+
+    void add(final String node) {
+        if (!nodes.add(node)) {
+            throw new IllegalArgumentException("node already in the ring: " + node);
+        }
+        place(node);
+    }
+
+    void remove(final String node) {
+        if (!nodes.remove(node)) {
+            throw new IllegalArgumentException("node not in the ring: " + node);
+        }
+        ring.values().removeIf(node::equals);
+        // hand the (rare) points the node won by collision back to the other nodes claiming them
+        nodes.forEach(this::place);
+    }
+
+    /**
+     * @param key key to be placed
+     * @return node owning the key: first node point clockwise from the key hash, null if no nodes
+     */
+    String nodeFor(final String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        final Map.Entry<Long, String> owner = ring.ceilingEntry(hash.applyAsLong(key));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    Set<String> nodes() {
+        return Collections.unmodifiableSet(nodes);
+    }
+
+    private void place(final String node) {
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.merge(hash.applyAsLong(node + '#' + i), node,
+                    (owner, other) -> owner.compareTo(other) <= 0 ? owner : other);
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a of the UTF-8 bytes, with a final avalanche so that similar keys land far apart
+     */
+    static long hash(final String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
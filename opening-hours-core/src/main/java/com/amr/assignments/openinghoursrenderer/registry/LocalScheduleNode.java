@@ -0,0 +1,68 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.registry.ScheduleRegistry.RegisteredSchedule;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Node backed by an in-memory registry of this JVM, e.g. to run several nodes in a single process
+ */
+public class LocalScheduleNode implements ScheduleNode {
+
+    private final String id;
+    private final ScheduleRegistry scheduleRegistry;
+
+    public LocalScheduleNode(final String id, final ScheduleAlgebra scheduleAlgebra) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("no node id informed");
+        }
+        this.id = id;
+        this.scheduleRegistry = new ScheduleRegistry(scheduleAlgebra);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public RegisteredSchedule put(final String id, final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        return scheduleRegistry.put(id, weeklyOpeningHours);
+    }
+
+    @Override
+    public Optional<RegisteredSchedule> find(final String id) {
+        return scheduleRegistry.find(id);
+    }
+
+    @Override
+    public boolean remove(final String id) {
+        return scheduleRegistry.remove(id);
+    }
+
+    @Override
+    public List<String> ids() {
+        return scheduleRegistry.ids();
+    }
+
+    @Override
+    public List<String> openAt(final DayOfWeek day, final LocalTime time) {
+        return scheduleRegistry.openAt(day, time);
+    }
+
+    @Override
+    public int[] heatmap(final int slotSeconds) {
+        return scheduleRegistry.heatmap(slotSeconds);
+    }
+
+    @Override
+    public int size() {
+        return scheduleRegistry.size();
+    }
+}
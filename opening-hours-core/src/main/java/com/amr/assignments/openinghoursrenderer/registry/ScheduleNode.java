@@ -0,0 +1,45 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.registry.ScheduleRegistry.RegisteredSchedule;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Node holding one partition of the schedules of a {@link ShardedScheduleRegistry}: in-process (see
+ * {@link LocalScheduleNode}) or a remote one behind a client implementing this interface
+ */
+public interface ScheduleNode {
+
+    /**
+     * @return node id, unique within the registry (also its position in the hash ring)
+     */
+    String getId();
+
+    RegisteredSchedule put(String id, Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours);
+
+    Optional<RegisteredSchedule> find(String id);
+
+    boolean remove(String id);
+
+    /**
+     * @return ids of every restaurant held by the node
+     */
+    List<String> ids();
+
+    /**
+     * @return ids of the restaurants held by the node open at given day and time, sorted
+     */
+    List<String> openAt(DayOfWeek day, LocalTime time);
+
+    /**
+     * @return number of restaurants held by the node open at the start of every slot of the week
+     */
+    int[] heatmap(int slotSeconds);
+
+    int size();
+}
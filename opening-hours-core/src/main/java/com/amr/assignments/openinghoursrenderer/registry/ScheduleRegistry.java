@@ -0,0 +1,160 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod.SECONDS_PER_DAY;
+import static com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals.SECONDS_PER_WEEK;
+
+/**
+ * In-memory store of restaurant weekly opening hours by restaurant id, kept along with their compiled intervals so
+ * that they can be combined or queried without being compiled again
+ */
+public class ScheduleRegistry {
+
+    private final ScheduleAlgebra scheduleAlgebra;
+    private final Map<String, RegisteredSchedule> schedules = new ConcurrentHashMap<>();
+
+    public ScheduleRegistry(final ScheduleAlgebra scheduleAlgebra) {
+        this.scheduleAlgebra = scheduleAlgebra;
+    }
+
+    /**
+     * Store (or replace) the weekly opening hours of a restaurant
+     *
+     * @param id restaurant id
+     * @param weeklyOpeningHours map that key is day of the week and value is a list of event times (open and/or close
+     *                           hours) for that day
+     * @return stored schedule
+     */
+    public RegisteredSchedule put(final String id, final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("no restaurant id informed");
+        }
+        if (weeklyOpeningHours == null) {
+            throw new IllegalArgumentException("no opening hours informed");
+        }
+        final Map<DayOfWeek, List<OpeningHourEvent>> copy = new EnumMap<>(DayOfWeek.class);
+        weeklyOpeningHours.forEach((day, events) -> copy.put(day, events == null ? null
+                : Collections.unmodifiableList(new ArrayList<>(events))));
+        final RegisteredSchedule schedule = new RegisteredSchedule(id, Collections.unmodifiableMap(copy),
+                scheduleAlgebra.compile(copy));
+        schedules.put(id, schedule);
+        return schedule;
+    }
+
+    /**
+     * @param id restaurant id
+     * @return stored schedule, empty if none stored for that id
+     */
+    public Optional<RegisteredSchedule> find(final String id) {
+        return Optional.ofNullable(schedules.get(id));
+    }
+
+    /**
+     * @param id restaurant id
+     * @return true if a schedule was stored for that id
+     */
+    public boolean remove(final String id) {
+        return schedules.remove(id) != null;
+    }
+
+    /**
+     * @return number of schedules stored
+     */
+    public int size() {
+        return schedules.size();
+    }
+
+    /**
+     * @return ids of every restaurant stored (snapshot)
+     */
+    public List<String> ids() {
+        return new ArrayList<>(schedules.keySet());
+    }
+
+    /**
+     * @param day day of the week
+     * @param time time of the day
+     * @return ids of the restaurants open at given day and time, sorted
+     */
+    public List<String> openAt(final DayOfWeek day, final LocalTime time) {
+        return schedules.values().stream()
+                .filter(schedule -> schedule.getIntervals().isOpenAt(day, time))
+                .map(RegisteredSchedule::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Count restaurants open at the start of every slot of the week
+     *
+     * @param slotSeconds slot length, dividing a day (e.g. 3600 for hourly slots)
+     * @return number of restaurants open at the start of each slot, first slot starting on Monday 12 AM
+     */
+    public int[] heatmap(final int slotSeconds) {
+        final int slots = slotsPerWeek(slotSeconds);
+        // +1 from the first slot starting within an interval, -1 from the first one starting after it
+        final int[] heatmap = new int[slots + 1];
+        schedules.values().forEach(schedule -> {
+            final WeeklyIntervals intervals = schedule.getIntervals();
+            for (int i = 0; i < intervals.size(); i++) {
+                heatmap[(intervals.getStart(i) + slotSeconds - 1) / slotSeconds]++;
+                heatmap[(intervals.getEnd(i) + slotSeconds - 1) / slotSeconds]--;
+            }
+        });
+        for (int slot = 1; slot < slots; slot++) {
+            heatmap[slot] += heatmap[slot - 1];
+        }
+        return Arrays.copyOf(heatmap, slots);
+    }
+
+    static int slotsPerWeek(final int slotSeconds) {
+        if (slotSeconds < 1 || SECONDS_PER_DAY % slotSeconds != 0) {
+            throw new IllegalArgumentException("slot length does not divide a day");
+        }
+        return SECONDS_PER_WEEK / slotSeconds;
+    }
+
+    /**
+     * Weekly opening hours of a restaurant and their compiled intervals
+     */
+    public static final class RegisteredSchedule {
+
+        private final String id;
+        private final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours;
+        private final WeeklyIntervals intervals;
+
+        RegisteredSchedule(final String id, final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours,
+                           final WeeklyIntervals intervals) {
+            this.id = id;
+            this.weeklyOpeningHours = weeklyOpeningHours;
+            this.intervals = intervals;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Map<DayOfWeek, List<OpeningHourEvent>> getWeeklyOpeningHours() {
+            return weeklyOpeningHours;
+        }
+
+        public WeeklyIntervals getIntervals() {
+            return intervals;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.registry.ScheduleRegistry.RegisteredSchedule;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Schedule registry partitioned across nodes by consistent hashing of restaurant ids. Single restaurant operations go
+ * to the node owning the id; catalog-wide queries are sent to every node in parallel and their results merged
+ * (scatter-gather) on a dedicated executor. Schedules are moved between nodes as nodes join or leave, and that
+ * rebalance is stop-the-world: the membership write lock is held for the whole move, so every other operation waits
+ * until it is done. This keeps each schedule on exactly one node at any time, and is cheap as long as nodes are in
+ * process (moves are map copies); nodes holding many schedules remotely would need an online handoff instead
+ */
+public class ShardedScheduleRegistry {
+
+    private final ConsistentHashRing ring;
+    private final Map<String, ScheduleNode> nodes = new LinkedHashMap<>();
+    private final Executor executor;
+    private final ReadWriteLock membershipLock = new ReentrantReadWriteLock();
+
+    /**
+     * @param virtualNodes points of each node in the hash ring (the more, the more even the partitions)
+     * @param executor runs the queries sent to every node but one (which the caller runs itself), dedicated to the
+     *                 registry: queries are waited for while holding the membership read lock, so they must not queue
+     *                 behind unrelated (or blocking) tasks
+     */
+    public ShardedScheduleRegistry(final int virtualNodes, final Executor executor) {
+        this.ring = new ConsistentHashRing(virtualNodes);
+        this.executor = executor;
+    }
+
+    /**
+     * Add a node, moving to it the schedules it now owns from the other nodes. Every other operation waits meanwhile
+     *
+     * @param node node joining the registry
+     * @return number of schedules moved
+     */
+    public int addNode(final ScheduleNode node) {
+        return withLock(membershipLock.writeLock(), () -> {
+            ring.add(node.getId());
+            nodes.put(node.getId(), node);
+            int moved = 0;
+            for (ScheduleNode other : nodes.values()) {
+                if (other != node) {
+                    moved += moveMisplaced(other);
+                }
+            }
+            return moved;
+        });
+    }
+
+    /**
+     * Remove a node, moving its schedules to the nodes now owning them. Every other operation waits meanwhile
+     *
+     * @param nodeId id of the node leaving the registry
+     * @return number of schedules moved
+     */
+    public int removeNode(final String nodeId) {
+        return withLock(membershipLock.writeLock(), () -> {
+            final ScheduleNode node = nodes.get(nodeId);
+            if (node == null) {
+                throw new IllegalArgumentException("unknown node: " + nodeId);
+            }
+            if (nodes.size() == 1 && node.size() > 0) {
+                throw new IllegalStateException("last node still holds schedules");
+            }
+            ring.remove(nodeId);
+            nodes.remove(nodeId);
+            return moveMisplaced(node);
+        });
+    }
+
+    /**
+     * @return ids of the nodes of the registry
+     */
+    public Set<String> getNodeIds() {
+        return withLock(membershipLock.readLock(), () -> Set.copyOf(ring.nodes()));
+    }
+
+    /**
+     * @param id restaurant id
+     * @return id of the node owning the restaurant, null if no nodes
+     */
+    public String nodeFor(final String id) {
+        return withLock(membershipLock.readLock(), () -> ring.nodeFor(id));
+    }
+
+    public RegisteredSchedule put(final String id, final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("no restaurant id informed");
+        }
+        return withLock(membershipLock.readLock(), () -> {
+            if (nodes.isEmpty()) {
+                throw new IllegalStateException("no nodes in the registry");
+            }
+            return owner(id).put(id, weeklyOpeningHours);
+        });
+    }
+
+    public Optional<RegisteredSchedule> find(final String id) {
+        return withLock(membershipLock.readLock(), () -> nodes.isEmpty() ? Optional.empty() : owner(id).find(id));
+    }
+
+    public boolean remove(final String id) {
+        return withLock(membershipLock.readLock(), () -> !nodes.isEmpty() && owner(id).remove(id));
+    }
+
+    /**
+     * @return number of schedules stored across every node
+     */
+    public int size() {
+        return scatter(ScheduleNode::size).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * @param day day of the week
+     * @param time time of the day
+     * @return ids of the restaurants open at given day and time, sorted
+     */
+    public List<String> openAt(final DayOfWeek day, final LocalTime time) {
+        return scatter(node -> node.openAt(day, time)).stream()
+                .flatMap(List::stream)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Count restaurants open at the start of every slot of the week
+     *
+     * @param slotSeconds slot length, dividing a day (e.g. 3600 for hourly slots)
+     * @return number of restaurants open at the start of each slot, first slot starting on Monday 12 AM
+     */
+    public int[] heatmap(final int slotSeconds) {
+        final List<int[]> heatmaps = scatter(node -> node.heatmap(slotSeconds));
+        if (heatmaps.isEmpty()) {
+            return new int[ScheduleRegistry.slotsPerWeek(slotSeconds)];
+        }
+        final int[] heatmap = heatmaps.get(0).clone();
+        for (int[] nodeHeatmap : heatmaps.subList(1, heatmaps.size())) {
+            for (int slot = 0; slot < heatmap.length; slot++) {
+                heatmap[slot] += nodeHeatmap[slot];
+            }
+        }
+        return heatmap;
+    }
+
+    /**
+     * Run a query on every node in parallel, the first node on the caller thread (so a single node never leaves it)
+     */
+    private <T> List<T> scatter(final Function<ScheduleNode, T> query) {
+        return withLock(membershipLock.readLock(), () -> {
+            if (nodes.size() <= 1) {
+                return nodes.values().stream().map(query).collect(Collectors.toList());
+            }
+            final List<ScheduleNode> members = new ArrayList<>(nodes.values());
+            final List<CompletableFuture<T>> results = new ArrayList<>(members.size() - 1);
+            for (ScheduleNode node : members.subList(1, members.size())) {
+                results.add(CompletableFuture.supplyAsync(() -> query.apply(node), executor));
+            }
+            final T first = query.apply(members.get(0));
+            try {
+                final List<T> merged = new ArrayList<>(members.size());
+                merged.add(first);
+                results.stream().map(CompletableFuture::join).forEach(merged::add);
+                return merged;
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        });
+    }
+
+    /**
+     * Move the schedules of a node that are owned by another node (membership lock held)
+     *
+     * @return number of schedules moved
+     */
+    private int moveMisplaced(final ScheduleNode node) {
+        int moved = 0;
+        for (String id : node.ids()) {
+            final ScheduleNode owner = owner(id);
+            if (owner != node) {
+                final Optional<RegisteredSchedule> schedule = node.find(id);
+                if (schedule.isPresent()) {
+                    owner.put(id, schedule.get().getWeeklyOpeningHours());
+                    node.remove(id);
+                    moved++;
+                }
+            }
+        }
+        return moved;
+    }
+
+    private ScheduleNode owner(final String id) {
+        return nodes.get(ring.nodeFor(id));
+    }
+
+    private static <T> T withLock(final Lock lock, final Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
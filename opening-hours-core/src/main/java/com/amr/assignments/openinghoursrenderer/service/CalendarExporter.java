@@ -0,0 +1,125 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.OpeningInterval;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Stream opening intervals out as iCalendar (RFC 5545) or JSON, one interval at a time, so the exported range is
+ * never materialized
+ */
+public class CalendarExporter {
+
+    private static final DateTimeFormatter ICALENDAR_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_LENGTH = 74;
+
+    private ObjectMapper objectMapper;
+    private Clock clock;
+
+    public CalendarExporter(ObjectMapper objectMapper) {
+        this(objectMapper, Clock.systemUTC());
+    }
+
+    CalendarExporter(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Write opening intervals as an iCalendar document, one event per interval. Times are written as floating local
+     * times, i.e. in the restaurant's own time zone
+     *
+     * @param intervals opening intervals to be written, consumed lazily
+     * @param name calendar/restaurant name used as event summary
+     * @param writer output writer (not closed)
+     */
+    public void writeICalendar(final Stream<OpeningInterval> intervals, final String name, final Writer writer)
+            throws IOException {
+        final String summary = escapeText(name == null || name.isBlank() ? "Open" : name);
+        final String timestamp = ICALENDAR_DATE_TIME_FORMATTER.format(LocalDateTime.now(clock.withZone(ZoneOffset.UTC))) + "Z";
+        final String uidSuffix = Integer.toHexString(summary.hashCode()) + "@opening-hours-renderer";
+
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//opening-hours-renderer//EN");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+
+        final Iterator<OpeningInterval> iterator = intervals.iterator();
+        while (iterator.hasNext()) {
+            final OpeningInterval interval = iterator.next();
+            final String start = ICALENDAR_DATE_TIME_FORMATTER.format(interval.getStart());
+            writeLine(writer, "BEGIN:VEVENT");
+            writeLine(writer, "UID:" + start + "-" + uidSuffix);
+            writeLine(writer, "DTSTAMP:" + timestamp);
+            writeLine(writer, "DTSTART:" + start);
+            writeLine(writer, "DTEND:" + ICALENDAR_DATE_TIME_FORMATTER.format(interval.getEnd()));
+            writeLine(writer, "SUMMARY:" + summary);
+            writeLine(writer, "END:VEVENT");
+        }
+
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    /**
+     * Write opening intervals as a JSON array of <code>{"start": ..., "end": ...}</code> objects (ISO-8601 local date
+     * times)
+     *
+     * @param intervals opening intervals to be written, consumed lazily
+     * @param outputStream output stream (not closed)
+     */
+    public void writeJson(final Stream<OpeningInterval> intervals, final OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            intervals.forEach(interval -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeStringField("start", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(interval.getStart()));
+                    generator.writeStringField("end", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(interval.getEnd()));
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Write iCalendar content line, folding it after {@value #MAX_LINE_LENGTH} characters (RFC 5545, section 3.1)
+     */
+    private void writeLine(final Writer writer, final String line) throws IOException {
+        int start = 0;
+        while (line.length() - start > MAX_LINE_LENGTH) {
+            writer.write(line, start, MAX_LINE_LENGTH);
+            writer.write(CRLF + " ");
+            start += MAX_LINE_LENGTH;
+        }
+        writer.write(line, start, line.length() - start);
+        writer.write(CRLF);
+    }
+
+    /**
+     * Escape iCalendar TEXT value (RFC 5545, section 3.3.11)
+     */
+    private String escapeText(final String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+}
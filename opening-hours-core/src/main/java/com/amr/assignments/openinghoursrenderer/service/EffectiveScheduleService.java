@@ -0,0 +1,198 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningInterval;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod.SECONDS_PER_DAY;
+
+/**
+ * Resolve effective opening hours of concrete dates, merging date-specific overrides with weekly opening hours
+ */
+public class EffectiveScheduleService {
+
+    private OpeningHoursParser openingHoursParser;
+
+    public EffectiveScheduleService(OpeningHoursParser openingHoursParser) {
+        this.openingHoursParser = openingHoursParser;
+    }
+
+    /**
+     * Render effective opening hours of consecutive dates to a human readable format
+     *
+     * @param schedule restaurant schedule
+     * @param from first date to be rendered
+     * @param days number of dates to be rendered
+     * @return human readable representation of opening hour period(s), one line per date
+     */
+    public String render(final Schedule schedule, final LocalDate from, final int days) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("no schedule informed");
+        }
+        if (from == null || days < 1) {
+            throw new IllegalArgumentException("invalid dates range");
+        }
+
+        final Function<LocalDate, List<OpeningHourEvent>> openingHoursOn = openingHoursLookup(schedule, from,
+                from.plusDays(days));
+        final List<String> lines = new ArrayList<>(days);
+        List<OpeningHourEvent> todayOpeningHours = openingHoursOn.apply(from);
+        for (LocalDate date = from; date.isBefore(from.plusDays(days)); date = date.plusDays(1)) {
+            final List<OpeningHourEvent> tomorrowOpeningHours = openingHoursOn.apply(date.plusDays(1));
+            if (todayOpeningHours != null) {
+                final String line = openingHoursParser.formatOpeningHoursForDay(label(date), todayOpeningHours,
+                        overnightClosingHours(schedule, date.plusDays(1), tomorrowOpeningHours));
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+            todayOpeningHours = tomorrowOpeningHours;
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    /**
+     * Check if restaurant is open at given date and time, considering overnight periods started on the previous date
+     *
+     * @param schedule restaurant schedule
+     * @param dateTime date and time to be checked
+     * @return true if any effective opening period contains given date and time
+     */
+    public boolean isOpenAt(final Schedule schedule, final LocalDateTime dateTime) {
+        if (schedule == null || dateTime == null) {
+            throw new IllegalArgumentException("no schedule or date time informed");
+        }
+
+        final LocalDate today = dateTime.toLocalDate();
+        final int secondOfDay = dateTime.toLocalTime().toSecondOfDay();
+        final Function<LocalDate, List<OpeningHourEvent>> openingHoursOn = openingHoursLookup(schedule,
+                today.minusDays(1), today.plusDays(1));
+
+        return isOpenAt(openingPeriodsOn(schedule, openingHoursOn, today), secondOfDay)
+                || isOpenAt(openingPeriodsOn(schedule, openingHoursOn, today.minusDays(1)),
+                        secondOfDay + SECONDS_PER_DAY);
+    }
+
+    /**
+     * Lazily expand the effective opening hours of consecutive dates into concrete opening intervals. Dates are only
+     * resolved as the stream is consumed, so memory use does not depend on the number of dates. Overnight periods
+     * (including Sunday to Monday) are a single interval ending on the next date
+     *
+     * @param schedule restaurant schedule
+     * @param from first date to be expanded
+     * @param days number of dates to be expanded
+     * @return opening intervals ordered by start
+     */
+    public Stream<OpeningInterval> expand(final Schedule schedule, final LocalDate from, final int days) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("no schedule informed");
+        }
+        if (from == null || days < 1) {
+            throw new IllegalArgumentException("invalid dates range");
+        }
+
+        final Function<LocalDate, List<OpeningHourEvent>> openingHoursOn = openingHoursLookup(schedule, from,
+                from.plusDays(days));
+        return Stream.iterate(from, date -> date.plusDays(1))
+                .limit(days)
+                .flatMap(date -> openingPeriodsOn(schedule, openingHoursOn, date).stream()
+                        .map(period -> OpeningInterval.of(date, period)));
+    }
+
+    /**
+     * Resolve effective opening periods of a date (including the overnight one, if any)
+     *
+     * @param schedule restaurant schedule
+     * @param date date
+     * @return opening periods of the date, empty if closed or not informed
+     */
+    public List<OpeningPeriod> openingPeriodsOn(final Schedule schedule, final LocalDate date) {
+        return openingPeriodsOn(schedule, openingHoursLookup(schedule, date, date.plusDays(1)), date);
+    }
+
+    private List<OpeningPeriod> openingPeriodsOn(final Schedule schedule,
+                                                 final Function<LocalDate, List<OpeningHourEvent>> openingHoursOn,
+                                                 final LocalDate date) {
+        final List<OpeningHourEvent> todayOpeningHours = openingHoursOn.apply(date);
+        if (todayOpeningHours == null || todayOpeningHours.isEmpty()) {
+            return List.of();
+        }
+        final LocalDate tomorrow = date.plusDays(1);
+        return openingHoursParser.resolveOpeningPeriods(todayOpeningHours,
+                overnightClosingHours(schedule, tomorrow, openingHoursOn.apply(tomorrow)));
+    }
+
+    /**
+     * Pick the opening hour events closing an overnight period started the day before given date: those of the date,
+     * unless an override of the date does not start by closing it (e.g. closed on a holiday). The overnight period
+     * then keeps its weekly close hour, as it belongs to the date it opened on
+     *
+     * @param schedule restaurant schedule
+     * @param date date after the overnight period opening
+     * @param openingHours effective opening hour events of the date
+     * @return opening hour events to pair the overnight period with
+     */
+    private List<OpeningHourEvent> overnightClosingHours(final Schedule schedule, final LocalDate date,
+                                                         final List<OpeningHourEvent> openingHours) {
+        if (!schedule.hasOverrideOn(date) || startsWithClose(openingHours)) {
+            return openingHours;
+        }
+        final List<OpeningHourEvent> weeklyOpeningHours = schedule.getWeeklyOpeningHours().get(DayOfWeek.from(date));
+        return weeklyOpeningHours != null ? weeklyOpeningHours : openingHours;
+    }
+
+    /**
+     * Check if opening hour events start by closing an overnight period, i.e. first close hour before first open hour
+     */
+    private boolean startsWithClose(final List<OpeningHourEvent> openingHours) {
+        LocalTime firstOpen = null;
+        LocalTime firstClose = null;
+        for (OpeningHourEvent event : openingHours) {
+            if (event == null || event.getValue() == null) {
+                continue;
+            }
+            final LocalTime time = event.getValue();
+            if (OpeningHourEventType.OPEN.equals(event.getType()) && (firstOpen == null || time.isBefore(firstOpen))) {
+                firstOpen = time;
+            } else if (OpeningHourEventType.CLOSE.equals(event.getType())
+                    && (firstClose == null || time.isBefore(firstClose))) {
+                firstClose = time;
+            }
+        }
+        return firstClose != null && (firstOpen == null || firstClose.isBefore(firstOpen));
+    }
+
+    private boolean isOpenAt(final List<OpeningPeriod> openingPeriods, final int second) {
+        return openingPeriods.stream().anyMatch(p -> p.isOpenAt(second));
+    }
+
+    /**
+     * Pick opening hours lookup for given dates range: plain weekly opening hours if no override applies to the range
+     * (fast path), otherwise override index lookup
+     */
+    private Function<LocalDate, List<OpeningHourEvent>> openingHoursLookup(final Schedule schedule,
+                                                                           final LocalDate from,
+                                                                           final LocalDate to) {
+        if (!schedule.hasOverridesBetween(from, to)) {
+            final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours = schedule.getWeeklyOpeningHours();
+            return date -> weeklyOpeningHours.get(DayOfWeek.from(date));
+        }
+        return schedule::openingHoursOn;
+    }
+
+    private String label(final LocalDate date) {
+        return String.format("%s %s", DayOfWeek.from(date).getName(), date);
+    }
+}
@@ -0,0 +1,443 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationError;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod.SECONDS_PER_DAY;
+
+/**
+ * Validate weekly opening hours in a single pass, reporting every problem found as structured errors instead of
+ * throwing. Opening hours accepted by this validator are rendered by {@link OpeningHoursParser} without errors
+ */
+public class OpeningHoursValidator {
+
+    private static final String TYPE_FIELD = "type";
+    private static final String VALUE_FIELD = "value";
+    private static final long INVALID_SECONDS = Long.MIN_VALUE;
+
+    private static final Comparator<Event> EVENT_ORDER = Comparator.comparingInt((Event e) -> e.second)
+            .thenComparing(e -> e.open);
+
+    /**
+     * Validate weekly opening hours as received (JSON tree), including day names, event types and time ranges
+     *
+     * @param weeklyOpeningHours JSON object that key is day of the week and value is a list of events
+     * @return validation result with every error found, plus the weekly opening hours if valid
+     */
+    public ValidationResult validate(final JsonNode weeklyOpeningHours) {
+        final List<ValidationError> errors = new ArrayList<>();
+        if (weeklyOpeningHours == null || !weeklyOpeningHours.isObject()) {
+            errors.add(new ValidationError(ValidationErrorCode.MALFORMED_SCHEDULE, null, null));
+            return new ValidationResult(errors, null);
+        }
+
+        final Week week = new Week();
+        final Iterator<Map.Entry<String, JsonNode>> fields = weeklyOpeningHours.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String label = field.getKey();
+            final Optional<DayOfWeek> day = DayOfWeek.find(label);
+            if (day.isEmpty()) {
+                errors.add(new ValidationError(ValidationErrorCode.INVALID_DAY, label, null));
+            } else if (week.labels.containsKey(day.get())) {
+                errors.add(new ValidationError(ValidationErrorCode.DUPLICATE_DAY, label, null));
+            } else {
+                week.labels.put(day.get(), label);
+                readDay(day.get(), label, field.getValue(), week, errors);
+            }
+        }
+
+        validatePeriods(week, errors);
+        return new ValidationResult(errors, week.openingHours);
+    }
+
+    /**
+     * Validate already deserialized weekly opening hours
+     *
+     * @param weeklyOpeningHours map that key is day of the week and value is a list of event times (open and/or close
+     *                           hours) for that day
+     * @return validation result with every error found, plus the weekly opening hours if valid
+     */
+    public ValidationResult validate(final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        final List<ValidationError> errors = new ArrayList<>();
+        if (weeklyOpeningHours == null) {
+            errors.add(new ValidationError(ValidationErrorCode.MALFORMED_SCHEDULE, null, null));
+            return new ValidationResult(errors, null);
+        }
+
+        validateWeek(weeklyOpeningHours, errors);
+        return new ValidationResult(errors, weeklyOpeningHours);
+    }
+
+    /**
+     * Validate a schedule: weekly opening hours plus every date-specific override. Overrides are checked against the
+     * effective opening hours of the dates around them, paired the same way as by {@link EffectiveScheduleService}
+     * (errors of an override are located by its date)
+     *
+     * @param schedule weekly opening hours plus date-specific overrides
+     * @return validation result with every error found, plus the weekly opening hours if valid
+     */
+    public ValidationResult validate(final Schedule schedule) {
+        final List<ValidationError> errors = new ArrayList<>();
+        if (schedule == null) {
+            errors.add(new ValidationError(ValidationErrorCode.MALFORMED_SCHEDULE, null, null));
+            return new ValidationResult(errors, null);
+        }
+
+        final Week week = validateWeek(schedule.getWeeklyOpeningHours(), errors);
+        final Map<LocalDate, List<Event>> overrides = new TreeMap<>();
+        final Set<LocalDate> invalidOverrides = new HashSet<>();
+        schedule.getOverrides().forEach((date, openingHours) -> {
+            final String label = date.toString();
+            final int errorCount = errors.size();
+            final List<Event> events = readEvents(label, openingHours, errors);
+            if (errors.size() == errorCount && !hasDuplicates(label, events, errors)) {
+                overrides.put(date, events);
+            } else {
+                invalidOverrides.add(date);
+            }
+        });
+
+        overrides.forEach((date, events) -> {
+            final LocalDate yesterday = date.minusDays(1);
+            final LocalDate tomorrow = date.plusDays(1);
+            final List<Event> yesterdayEvents = overrides.containsKey(yesterday)
+                    ? overrides.get(yesterday)
+                    : invalidOverrides.contains(yesterday) ? null : week.days.get(DayOfWeek.from(yesterday));
+            // an overnight period is closed by the next override if it starts with a close hour, otherwise it keeps
+            // the close hour of the weekly opening hours
+            final DayOfWeek tomorrowDay = DayOfWeek.from(tomorrow);
+            final boolean closedTomorrow = invalidOverrides.contains(tomorrow)
+                    || startsWithClose(overrides.get(tomorrow))
+                    || week.invalidDays.contains(tomorrowDay)
+                    || startsWithClose(week.days.get(tomorrowDay));
+            validatePeriods(date.toString(), events, yesterdayEvents == null || endsWithOpen(yesterdayEvents),
+                    closedTomorrow, errors);
+        });
+
+        return new ValidationResult(errors, schedule.getWeeklyOpeningHours());
+    }
+
+    private Week validateWeek(final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours,
+                              final List<ValidationError> errors) {
+        final Week week = new Week();
+        weeklyOpeningHours.forEach((day, openingHours) -> {
+            if (day == null) {
+                errors.add(new ValidationError(ValidationErrorCode.INVALID_DAY, null, null));
+                return;
+            }
+            week.labels.put(day, day.getName());
+            week.openingHours.put(day, openingHours);
+            if (openingHours == null) {
+                return;
+            }
+            final int errorCount = errors.size();
+            final List<Event> events = readEvents(day.getName(), openingHours, errors);
+            addDay(day, events, errors.size() == errorCount, week, errors);
+        });
+
+        validatePeriods(week, errors);
+        return week;
+    }
+
+    /**
+     * Check type and time of every (non null) deserialized event of a day
+     *
+     * @return events of the day (complete only if no error was added)
+     */
+    private List<Event> readEvents(final String label, final List<OpeningHourEvent> openingHours,
+                                   final List<ValidationError> errors) {
+        final List<Event> events = new ArrayList<>(openingHours.size());
+        for (int position = 0; position < openingHours.size(); position++) {
+            final OpeningHourEvent event = openingHours.get(position);
+            if (event == null) {
+                continue;
+            }
+            if (event.getType() == null) {
+                errors.add(new ValidationError(ValidationErrorCode.INVALID_TYPE, label, position));
+            } else if (event.getValue() == null) {
+                errors.add(new ValidationError(ValidationErrorCode.MISSING_TIME, label, position));
+            } else {
+                events.add(new Event(position, OpeningHourEventType.OPEN.equals(event.getType()),
+                        event.getValue().toSecondOfDay()));
+            }
+        }
+        return events;
+    }
+
+    private void readDay(final DayOfWeek day, final String label, final JsonNode openingHours, final Week week,
+                         final List<ValidationError> errors) {
+        if (openingHours == null || openingHours.isNull()) {
+            week.openingHours.put(day, null);
+            return;
+        }
+        if (!openingHours.isArray()) {
+            errors.add(new ValidationError(ValidationErrorCode.MALFORMED_DAY, label, null));
+            return;
+        }
+
+        final List<Event> events = new ArrayList<>(openingHours.size());
+        final List<OpeningHourEvent> openingHourEvents = new ArrayList<>(openingHours.size());
+        final int errorCount = errors.size();
+        for (int position = 0; position < openingHours.size(); position++) {
+            final JsonNode event = openingHours.get(position);
+            if (event.isNull()) {
+                // ignored when rendering, but kept: a day with null events only is not a closed day
+                openingHourEvents.add(null);
+                continue;
+            }
+            if (!event.isObject() || !hasOnlyKnownFields(event)) {
+                errors.add(new ValidationError(ValidationErrorCode.MALFORMED_EVENT, label, position));
+                continue;
+            }
+
+            final JsonNode typeNode = event.get(TYPE_FIELD);
+            final Optional<OpeningHourEventType> type = typeNode != null && typeNode.isTextual()
+                    ? OpeningHourEventType.find(typeNode.textValue())
+                    : Optional.empty();
+            if (type.isEmpty()) {
+                errors.add(new ValidationError(ValidationErrorCode.INVALID_TYPE, label, position));
+            }
+
+            final JsonNode valueNode = event.get(VALUE_FIELD);
+            final long seconds;
+            if (valueNode == null || valueNode.isNull()) {
+                errors.add(new ValidationError(ValidationErrorCode.MISSING_TIME, label, position));
+                continue;
+            } else if (valueNode.isIntegralNumber()) {
+                seconds = valueNode.canConvertToLong() ? valueNode.longValue() : SECONDS_PER_DAY;
+            } else {
+                seconds = parseSeconds(valueNode.asText());
+                if (seconds == INVALID_SECONDS) {
+                    errors.add(new ValidationError(ValidationErrorCode.INVALID_TIME, label, position));
+                    continue;
+                }
+            }
+            if (seconds < 0 || seconds >= SECONDS_PER_DAY) {
+                errors.add(new ValidationError(ValidationErrorCode.OUT_OF_RANGE_SECONDS, label, position));
+                continue;
+            }
+
+            if (type.isPresent()) {
+                events.add(new Event(position, type.get() == OpeningHourEventType.OPEN, (int) seconds));
+                openingHourEvents.add(new OpeningHourEvent(type.get(), LocalTime.ofSecondOfDay(seconds)));
+            }
+        }
+
+        final boolean valid = errors.size() == errorCount;
+        if (valid) {
+            week.openingHours.put(day, openingHourEvents);
+        }
+        addDay(day, events, valid, week, errors);
+    }
+
+    private void addDay(final DayOfWeek day, final List<Event> events, final boolean valid, final Week week,
+                        final List<ValidationError> errors) {
+        if (!valid) {
+            week.invalidDays.add(day);
+            return;
+        }
+
+        if (hasDuplicates(week.labels.get(day), events, errors)) {
+            week.invalidDays.add(day);
+        } else {
+            week.days.put(day, events);
+        }
+    }
+
+    /**
+     * Sort events of a day, reporting the same event informed more than once
+     *
+     * @return true if any duplicate found
+     */
+    private boolean hasDuplicates(final String label, final List<Event> events, final List<ValidationError> errors) {
+        boolean duplicates = false;
+        events.sort(EVENT_ORDER);
+        for (int i = 1; i < events.size(); i++) {
+            final Event previous = events.get(i - 1);
+            final Event current = events.get(i);
+            if (previous.second == current.second && previous.open == current.open) {
+                errors.add(new ValidationError(ValidationErrorCode.DUPLICATE_EVENT, label,
+                        Math.max(previous.position, current.position)));
+                duplicates = true;
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Check pairing of open and close hours of every valid day, following the same rules as
+     * {@link OpeningHoursParser#resolveOpeningPeriods}
+     */
+    private void validatePeriods(final Week week, final List<ValidationError> errors) {
+        week.days.forEach((day, events) -> {
+            final List<Event> yesterdayEvents = week.days.get(day.yesterday());
+            validatePeriods(week.labels.get(day), events, yesterdayEvents == null || endsWithOpen(yesterdayEvents),
+                    week.invalidDays.contains(day.tomorrow()) || startsWithClose(week.days.get(day.tomorrow())),
+                    errors);
+        });
+    }
+
+    /**
+     * Check pairing of open and close hours of a valid day
+     *
+     * @param openedYesterday false if the previous day is known not to leave an overnight period open
+     * @param closedTomorrow true if the next day closes an overnight period (or is not known to leave it open)
+     */
+    private void validatePeriods(final String label, final List<Event> events, final boolean openedYesterday,
+                                 final boolean closedTomorrow, final List<ValidationError> errors) {
+        final List<Event> opens = new ArrayList<>();
+        final List<Event> closes = new ArrayList<>();
+        for (Event event : events) {
+            (event.open ? opens : closes).add(event);
+        }
+        if (opens.isEmpty() && closes.isEmpty()) {
+            return;
+        }
+
+        final int numberOfPeriods = Math.min(opens.size(), closes.size());
+        List<Event> pairedCloses = closes;
+        if (closes.size() > opens.size()) {
+            // first close hour belongs to an overnight period opened on the previous day
+            pairedCloses = closes.subList(1, closes.size());
+            if (!openedYesterday) {
+                errors.add(new ValidationError(ValidationErrorCode.UNMATCHED_CLOSE, label, closes.get(0).position));
+            }
+            for (int i = numberOfPeriods; i < pairedCloses.size(); i++) {
+                errors.add(new ValidationError(ValidationErrorCode.UNMATCHED_CLOSE, label,
+                        pairedCloses.get(i).position));
+            }
+        }
+
+        for (int i = 0; i < numberOfPeriods; i++) {
+            final Event open = opens.get(i);
+            final Event close = pairedCloses.get(i);
+            // only the last period of the day may close on the next day
+            final boolean lastPeriod = i == numberOfPeriods - 1 && opens.size() == numberOfPeriods;
+            if (close.second <= open.second && !lastPeriod) {
+                errors.add(new ValidationError(ValidationErrorCode.CLOSE_BEFORE_OPEN, label, close.position));
+            }
+            if (i > 0 && open.second < pairedCloses.get(i - 1).second) {
+                errors.add(new ValidationError(ValidationErrorCode.OVERLAPPING_PERIOD, label, open.position));
+            }
+        }
+
+        if (opens.size() > closes.size()) {
+            // last open hour must be closed on the next day (overnight period)
+            final Event lastOpen = opens.get(opens.size() - 1);
+            for (int i = numberOfPeriods; i < opens.size() - 1; i++) {
+                errors.add(new ValidationError(ValidationErrorCode.UNMATCHED_OPEN, label, opens.get(i).position));
+            }
+            if (!closes.isEmpty() && lastOpen.second <= closes.get(closes.size() - 1).second) {
+                errors.add(new ValidationError(ValidationErrorCode.UNMATCHED_OPEN, label, lastOpen.position));
+            } else if (!closedTomorrow) {
+                errors.add(new ValidationError(ValidationErrorCode.UNMATCHED_OPEN, label, lastOpen.position));
+            }
+        }
+    }
+
+    private boolean endsWithOpen(final List<Event> events) {
+        return !events.isEmpty() && events.get(events.size() - 1).open;
+    }
+
+    /**
+     * Check if events of a day start by closing an overnight period, i.e. first close hour is before first open hour
+     */
+    private boolean startsWithClose(final List<Event> events) {
+        if (events == null) {
+            return false;
+        }
+        Event firstOpen = null;
+        Event firstClose = null;
+        for (Event event : events) {
+            if (event.open && firstOpen == null) {
+                firstOpen = event;
+            } else if (!event.open && firstClose == null) {
+                firstClose = event;
+            }
+        }
+        return firstClose != null && (firstOpen == null || firstClose.second < firstOpen.second);
+    }
+
+    private boolean hasOnlyKnownFields(final JsonNode event) {
+        final Iterator<String> names = event.fieldNames();
+        while (names.hasNext()) {
+            final String name = names.next();
+            if (!TYPE_FIELD.equals(name) && !VALUE_FIELD.equals(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse seconds informed as text the same way {@link Long#parseLong(String)} does, without throwing
+     *
+     * @param text seconds as text
+     * @return parsed seconds, {@link #INVALID_SECONDS} if not an integer number
+     */
+    private long parseSeconds(final String text) {
+        if (text == null || text.isEmpty()) {
+            return INVALID_SECONDS;
+        }
+        final boolean negative = text.charAt(0) == '-';
+        final int start = negative || text.charAt(0) == '+' ? 1 : 0;
+        if (start == text.length() || text.length() - start > 18) {
+            return INVALID_SECONDS;
+        }
+        long seconds = 0;
+        for (int i = start; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_SECONDS;
+            }
+            seconds = seconds * 10 + (c - '0');
+        }
+        return negative ? -seconds : seconds;
+    }
+
+    /**
+     * Event reduced to what pairing needs: position within the day, type and second of the day
+     */
+    private static class Event {
+        private final int position;
+        private final boolean open;
+        private final int second;
+
+        private Event(final int position, final boolean open, final int second) {
+            this.position = position;
+            this.open = open;
+            this.second = second;
+        }
+    }
+
+    /**
+     * Validation state of the whole week
+     */
+    private static class Week {
+        private final Map<DayOfWeek, String> labels = new EnumMap<>(DayOfWeek.class);
+        private final Map<DayOfWeek, List<Event>> days = new EnumMap<>(DayOfWeek.class);
+        private final Set<DayOfWeek> invalidDays = EnumSet.noneOf(DayOfWeek.class);
+        private final Map<DayOfWeek, List<OpeningHourEvent>> openingHours = new EnumMap<>(DayOfWeek.class);
+    }
+}
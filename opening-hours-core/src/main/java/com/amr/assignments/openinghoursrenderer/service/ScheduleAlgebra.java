@@ -0,0 +1,203 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod;
+import com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod.SECONDS_PER_DAY;
+import static com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals.SECONDS_PER_WEEK;
+
+/**
+ * Combine the opening hours of several restaurants (e.g. branches of a brand, or stalls of a food court): when at
+ * least one is open (union), when all of them are (intersection) or when at least k of them are (coverage)
+ */
+public class ScheduleAlgebra {
+
+    private OpeningHoursParser openingHoursParser;
+
+    public ScheduleAlgebra(OpeningHoursParser openingHoursParser) {
+        this.openingHoursParser = openingHoursParser;
+    }
+
+    /**
+     * Compile weekly opening hours to intervals, pairing open and close hours as when rendering. Days not informed
+     * are closed
+     *
+     * @param weeklyOpeningHours map that key is day of the week and value is a list of event times (open and/or close
+     *                           hours) for that day
+     * @return opening intervals of the week
+     */
+    public WeeklyIntervals compile(final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        if (weeklyOpeningHours == null) {
+            throw new IllegalArgumentException("no opening hours informed");
+        }
+
+        int[][] bounds = {new int[16], new int[16]};
+        int count = 0;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            final List<OpeningHourEvent> todayOpeningHours = weeklyOpeningHours.get(day);
+            if (todayOpeningHours == null || todayOpeningHours.isEmpty()) {
+                continue;
+            }
+            final List<OpeningHourEvent> tomorrowOpeningHours = weeklyOpeningHours.get(day.tomorrow());
+            for (OpeningPeriod period : openingHoursParser.resolveOpeningPeriods(todayOpeningHours,
+                    tomorrowOpeningHours == null ? List.of() : tomorrowOpeningHours)) {
+                final int start = day.ordinal() * SECONDS_PER_DAY + period.getStartSecond();
+                final int end = day.ordinal() * SECONDS_PER_DAY + period.getEndSecond();
+                if (end > SECONDS_PER_WEEK) {
+                    // Sunday to Monday overnight period
+                    bounds = add(bounds, count++, start, SECONDS_PER_WEEK);
+                    bounds = add(bounds, count++, 0, end - SECONDS_PER_WEEK);
+                } else {
+                    bounds = add(bounds, count++, start, end);
+                }
+            }
+        }
+        // periods may overlap, and the Sunday to Monday one comes last: sort boundaries, then merge as a union
+        final int[] starts = Arrays.copyOf(bounds[0], count);
+        final int[] ends = Arrays.copyOf(bounds[1], count);
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+        return coverage(1, new int[][]{starts}, new int[][]{ends});
+    }
+
+    /**
+     * @param schedules compiled opening hours of each restaurant
+     * @return when at least one restaurant is open
+     */
+    public WeeklyIntervals union(final List<WeeklyIntervals> schedules) {
+        return atLeast(1, schedules);
+    }
+
+    /**
+     * @param schedules compiled opening hours of each restaurant
+     * @return when every restaurant is open
+     */
+    public WeeklyIntervals intersection(final List<WeeklyIntervals> schedules) {
+        return atLeast(schedules == null ? 0 : schedules.size(), schedules);
+    }
+
+    /**
+     * Compute when at least k out of n restaurants are open, sweeping once over the boundaries of every schedule
+     *
+     * @param k minimum number of restaurants open at the same time
+     * @param schedules compiled opening hours of each restaurant
+     * @return when at least k restaurants are open
+     */
+    public WeeklyIntervals atLeast(final int k, final List<WeeklyIntervals> schedules) {
+        if (schedules == null || schedules.isEmpty()) {
+            throw new IllegalArgumentException("no schedules informed");
+        }
+        if (k < 1 || k > schedules.size()) {
+            throw new IllegalArgumentException("invalid number of restaurants open at the same time");
+        }
+
+        final int[][] starts = new int[schedules.size()][];
+        final int[][] ends = new int[schedules.size()][];
+        for (int i = 0; i < schedules.size(); i++) {
+            final WeeklyIntervals schedule = schedules.get(i);
+            starts[i] = new int[schedule.size()];
+            ends[i] = new int[schedule.size()];
+            for (int j = 0; j < schedule.size(); j++) {
+                starts[i][j] = schedule.getStart(j);
+                ends[i][j] = schedule.getEnd(j);
+            }
+        }
+        return coverage(k, starts, ends);
+    }
+
+    /**
+     * Render compiled opening hours with the same format as {@link OpeningHoursParser#parse}, every day of the week
+     * (closed days included)
+     *
+     * @param intervals compiled opening hours
+     * @return human readable representation of weekly opening hour period(s)
+     */
+    public String render(final WeeklyIntervals intervals) {
+        final Map<DayOfWeek, List<OpeningPeriod>> openingPeriods = intervals.toOpeningPeriods();
+        return Stream.of(DayOfWeek.values())
+                .map(day -> openingHoursParser.formatOpeningPeriodsForDay(day.getName(), openingPeriods.get(day)))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Merge sweep over interval boundaries: every start increments and every end decrements the number of intervals
+     * open, which is then compared with k once all boundaries at the same second are applied (so touching intervals
+     * are merged)
+     *
+     * @param k minimum number of intervals open at the same time
+     * @param starts sorted interval starts of each schedule
+     * @param ends sorted interval ends of each schedule
+     * @return intervals where at least k intervals overlap
+     */
+    private static WeeklyIntervals coverage(final int k, final int[][] starts, final int[][] ends) {
+        final int[] allStarts = merge(starts, 0, starts.length);
+        final int[] allEnds = merge(ends, 0, ends.length);
+        if (allStarts.length == 0) {
+            return WeeklyIntervals.closed();
+        }
+
+        int[][] result = {new int[allStarts.length], new int[allStarts.length]};
+        int count = 0;
+        int open = 0;
+        int s = 0;
+        int e = 0;
+        int resultStart = -1;
+        while (e < allEnds.length) {
+            final int second = s < allStarts.length ? Math.min(allStarts[s], allEnds[e]) : allEnds[e];
+            while (e < allEnds.length && allEnds[e] == second) {
+                open--;
+                e++;
+            }
+            while (s < allStarts.length && allStarts[s] == second) {
+                open++;
+                s++;
+            }
+            if (open >= k && resultStart < 0) {
+                resultStart = second;
+            } else if (open < k && resultStart >= 0) {
+                result = add(result, count++, resultStart, second);
+                resultStart = -1;
+            }
+        }
+        return new WeeklyIntervals(Arrays.copyOf(result[0], count), Arrays.copyOf(result[1], count));
+    }
+
+    /**
+     * Merge sorted arrays pairwise (balanced, so each boundary is copied log(n) times)
+     */
+    private static int[] merge(final int[][] sorted, final int from, final int to) {
+        if (to - from == 1) {
+            return sorted[from];
+        }
+        final int[] left = merge(sorted, from, (from + to) >>> 1);
+        final int[] right = merge(sorted, (from + to) >>> 1, to);
+        final int[] merged = new int[left.length + right.length];
+        int l = 0;
+        int r = 0;
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = r == right.length || (l < left.length && left[l] <= right[r]) ? left[l++] : right[r++];
+        }
+        return merged;
+    }
+
+    /**
+     * Set the start and end of an interval at given index, growing the arrays if needed
+     */
+    private static int[][] add(final int[][] bounds, final int index, final int start, final int end) {
+        int[][] grown = bounds;
+        if (index == bounds[0].length) {
+            grown = new int[][]{Arrays.copyOf(bounds[0], index * 2 + 1), Arrays.copyOf(bounds[1], index * 2 + 1)};
+        }
+        grown[0][index] = start;
+        grown[1][index] = end;
+        return grown;
+    }
+}
@@ -0,0 +1,150 @@
+package com.amr.assignments.openinghoursrenderer.fuzz;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals;
+import com.amr.assignments.openinghoursrenderer.json.OpeningHoursJson;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningPeriod.SECONDS_PER_DAY;
+import static com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals.SECONDS_PER_WEEK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential fuzzing of every rendering engine against the frozen reference parser. Runs a short, fixed-seed session
+ * by default; run a long soak with e.g.
+ * <code>./mvnw -pl opening-hours-core test -Dtest=DifferentialFuzzTest -Dfuzz.duration=PT8H</code>
+ * (random seed unless <code>-Dfuzz.seed</code> is given, so that a reported case can be replayed)
+ */
+class DifferentialFuzzTest {
+
+    private static final long DEFAULT_SEED = 20261019L;
+    private static final long DEFAULT_CASES = 5000;
+    private static final LocalDate MONDAY = LocalDate.of(2026, 12, 21);
+    private static final TypeReference<Map<DayOfWeek, List<OpeningHourEvent>>> WEEKLY_OPENING_HOURS =
+            new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = OpeningHoursJson.newObjectMapper();
+    private final OpeningHoursParser openingHoursParser = new OpeningHoursParser();
+    private final OpeningHoursValidator openingHoursValidator = new OpeningHoursValidator();
+    private final EffectiveScheduleService effectiveScheduleService = new EffectiveScheduleService(openingHoursParser);
+    private final ScheduleAlgebra scheduleAlgebra = new ScheduleAlgebra(openingHoursParser);
+
+    @Test
+    void givenRandomSchedules_whenRenderedByEveryEngine_thenSameOutputAndErrorsAsReference() {
+        final String soakDuration = System.getProperty("fuzz.duration");
+        final long seed = Long.getLong("fuzz.seed", soakDuration == null ? DEFAULT_SEED : System.nanoTime());
+        final long cases = soakDuration == null ? Long.getLong("fuzz.cases", DEFAULT_CASES) : Long.MAX_VALUE;
+        final Duration duration = soakDuration == null ? Duration.ofMinutes(5) : Duration.parse(soakDuration);
+
+        final DifferentialFuzzer.Report report = new DifferentialFuzzer(reference(), engines())
+                .run(seed, cases, duration);
+
+        assertThat(report.getCases()).isPositive();
+        assertThat(report.getDivergences()).as(report.toString()).isEmpty();
+    }
+
+    @Test
+    void givenDivergingEngine_whenFuzz_thenMinimalInputReported() {
+        // renders like the reference except when any Sunday event is informed
+        final DifferentialFuzzer.Engine sundayBlind = (weeklyOpeningHours, random) -> {
+            final List<OpeningHourEvent> sunday = weeklyOpeningHours.get(DayOfWeek.SUNDAY);
+            return sunday != null && !sunday.isEmpty() ? "" : new ReferenceOpeningHoursParser().parse(weeklyOpeningHours);
+        };
+
+        final DifferentialFuzzer.Report report = new DifferentialFuzzer(reference(), Map.of("sunday-blind", sundayBlind))
+                .run(DEFAULT_SEED, 1000, Duration.ofMinutes(1));
+
+        assertThat(report.getDivergences()).hasSize(1);
+        assertThat(report.getDivergences().get(0).toString())
+                .contains("engine sunday-blind diverges")
+                .contains("input:     {\"sunday\":[{");
+    }
+
+    private DifferentialFuzzer.Engine reference() {
+        return (weeklyOpeningHours, random) -> new ReferenceOpeningHoursParser().parse(weeklyOpeningHours);
+    }
+
+    private Map<String, DifferentialFuzzer.Engine> engines() {
+        final Map<String, DifferentialFuzzer.Engine> engines = new LinkedHashMap<>();
+
+        engines.put("parser", (weeklyOpeningHours, random) -> openingHoursParser.parse(weeklyOpeningHours));
+
+        // request JSON (random day order and letter case) deserialized by Jackson, then rendered
+        engines.put("json", (weeklyOpeningHours, random) -> openingHoursParser.parse(
+                objectMapper.readValue(ScheduleGenerator.toJson(weeklyOpeningHours, random), WEEKLY_OPENING_HOURS)));
+
+        // request JSON validated first: whatever the validator accepts must render exactly like the reference
+        engines.put("validated-json", (weeklyOpeningHours, random) -> {
+            final ValidationResult validationResult = openingHoursValidator.validate(
+                    objectMapper.readTree(ScheduleGenerator.toJson(weeklyOpeningHours, random)));
+            return validationResult.isValid() ? openingHoursParser.parse(validationResult.getWeeklyOpeningHours()) : null;
+        });
+
+        // one week of dates with no overrides, date stripped from day labels
+        engines.put("effective-schedule", (weeklyOpeningHours, random) -> effectiveScheduleService
+                .render(new Schedule(weeklyOpeningHours, null), MONDAY, 7)
+                .replaceAll(" \\d{4}-\\d{2}-\\d{2}:", ":"));
+
+        // valid opening hours compiled to weekly intervals (as for coverage and the registry), then rendered every day
+        // of the week: only days rendered by the reference are kept, i.e. informed and either empty or opening. The
+        // algebra merges overlapping and touching periods, so schedules where it did are not compared
+        engines.put("schedule-algebra", (weeklyOpeningHours, random) -> {
+            final ValidationResult validationResult = openingHoursValidator.validate(
+                    objectMapper.readTree(ScheduleGenerator.toJson(weeklyOpeningHours, random)));
+            if (!validationResult.isValid()) {
+                return null;
+            }
+            final Map<DayOfWeek, List<OpeningHourEvent>> validated = validationResult.getWeeklyOpeningHours();
+            final WeeklyIntervals intervals = scheduleAlgebra.compile(validated);
+            if (intervals.size() < countPeriods(validated)) {
+                return null;
+            }
+            final String[] days = scheduleAlgebra.render(intervals).split(System.lineSeparator());
+            return Stream.of(DayOfWeek.values())
+                    .filter(day -> validated.get(day) != null
+                            && (validated.get(day).isEmpty() || !days[day.ordinal()].endsWith(": Closed")))
+                    .map(day -> days[day.ordinal()])
+                    .collect(Collectors.joining(System.lineSeparator()));
+        });
+
+        return engines;
+    }
+
+    /**
+     * @return number of intervals compiled from the opening periods if none is merged (the Sunday to Monday overnight
+     * period is split in two)
+     */
+    private int countPeriods(final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours) {
+        int count = 0;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            final List<OpeningHourEvent> today = weeklyOpeningHours.get(day);
+            if (today == null || today.isEmpty()) {
+                continue;
+            }
+            final List<OpeningHourEvent> tomorrow = weeklyOpeningHours.get(day.tomorrow());
+            for (OpeningPeriod period : openingHoursParser.resolveOpeningPeriods(today,
+                    tomorrow == null ? List.of() : tomorrow)) {
+                count += day.ordinal() * SECONDS_PER_DAY + period.getEndSecond() > SECONDS_PER_WEEK ? 2 : 1;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,215 @@
+package com.amr.assignments.openinghoursrenderer.fuzz;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Render random schedules with the frozen reference parser and with every engine under test, reporting inputs on
+ * which an engine diverges (different output, or different error), shrunk down to a minimal input
+ */
+final class DifferentialFuzzer {
+
+    private static final int MAX_SHRINK_STEPS = 1000;
+
+    /**
+     * Rendering engine under test
+     */
+    interface Engine {
+
+        /**
+         * Render weekly opening hours
+         *
+         * @param weeklyOpeningHours schedule (a private copy, it may be modified)
+         * @param random source of incidental variation (e.g. JSON letter case), derived from the case seed
+         * @return rendered opening hours, or null if the engine declines the input (it is not compared then)
+         */
+        String render(Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours, Random random) throws Exception;
+    }
+
+    /**
+     * Result of rendering a schedule: output or error. Errors are compared by exception type only, as messages of
+     * errors not thrown on purpose (e.g. helpful NullPointerException messages, or none at all once the JIT has
+     * optimized the throwing code) depend on the shape of the code; the message is kept for the report
+     */
+    static final class Outcome {
+
+        private static final Outcome SKIPPED = new Outcome(null, null, null);
+
+        private final String output;
+        private final String error;
+        private final String message;
+
+        private Outcome(final String output, final String error, final String message) {
+            this.output = output;
+            this.error = error;
+            this.message = message;
+        }
+
+        static Outcome of(final Engine engine, final Map<DayOfWeek, List<OpeningHourEvent>> schedule, final long seed) {
+            try {
+                final String output = engine.render(ScheduleGenerator.copy(schedule), new Random(seed));
+                return output == null ? SKIPPED : new Outcome(output, null, null);
+            } catch (Exception e) {
+                return new Outcome(null, e.getClass().getName(), e.getMessage());
+            }
+        }
+
+        boolean isSkipped() {
+            return this == SKIPPED;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Outcome other = (Outcome) o;
+            return Objects.equals(output, other.output) && Objects.equals(error, other.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(output, error);
+        }
+
+        @Override
+        public String toString() {
+            return isSkipped() ? "(skipped)" : error != null ? "error " + error + ": " + message : "\"" + output + "\"";
+        }
+    }
+
+    /**
+     * Minimal input on which an engine diverges from the reference
+     */
+    static final class Divergence {
+
+        private final String engine;
+        private final long seed;
+        private final Map<DayOfWeek, List<OpeningHourEvent>> schedule;
+        private final Outcome expected;
+        private final Outcome actual;
+
+        Divergence(final String engine, final long seed, final Map<DayOfWeek, List<OpeningHourEvent>> schedule,
+                   final Outcome expected, final Outcome actual) {
+            this.engine = engine;
+            this.seed = seed;
+            this.schedule = schedule;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("engine %s diverges (seed %d)%n  input:     %s%n  reference: %s%n  engine:    %s",
+                    engine, seed, ScheduleGenerator.toJson(schedule, null), expected, actual);
+        }
+    }
+
+    /**
+     * Fuzzing session summary
+     */
+    static final class Report {
+
+        private final long seed;
+        private final long cases;
+        private final List<Divergence> divergences;
+
+        Report(final long seed, final long cases, final List<Divergence> divergences) {
+            this.seed = seed;
+            this.cases = cases;
+            this.divergences = divergences;
+        }
+
+        long getCases() {
+            return cases;
+        }
+
+        List<Divergence> getDivergences() {
+            return divergences;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder(String.format("seed %d, %d cases, %d divergences",
+                    seed, cases, divergences.size()));
+            divergences.forEach(d -> report.append(System.lineSeparator()).append(d));
+            return report.toString();
+        }
+    }
+
+    private final Engine reference;
+    private final Map<String, Engine> engines;
+
+    DifferentialFuzzer(final Engine reference, final Map<String, Engine> engines) {
+        this.reference = reference;
+        this.engines = new LinkedHashMap<>(engines);
+    }
+
+    /**
+     * Fuzz until a number of cases or a time budget is reached, whichever comes first. Only the first divergence of
+     * each engine is reported (shrunk), as the following ones are usually the same bug
+     *
+     * @param seed first case seed, case <code>i</code> uses <code>seed + i</code> so any case can be replayed alone
+     * @param maxCases number of cases
+     * @param maxDuration time budget
+     * @return session report
+     */
+    Report run(final long seed, final long maxCases, final Duration maxDuration) {
+        final long deadline = System.nanoTime() + maxDuration.toNanos();
+        final Map<String, Divergence> divergences = new LinkedHashMap<>();
+        long cases = 0;
+        while (cases < maxCases && System.nanoTime() - deadline < 0 && divergences.size() < engines.size()) {
+            final long caseSeed = seed + cases;
+            final Map<DayOfWeek, List<OpeningHourEvent>> schedule = ScheduleGenerator.generate(new Random(caseSeed));
+            final Outcome expected = Outcome.of(reference, schedule, caseSeed);
+            for (Map.Entry<String, Engine> engine : engines.entrySet()) {
+                if (!divergences.containsKey(engine.getKey())
+                        && diverges(engine.getValue(), schedule, caseSeed, expected)) {
+                    divergences.put(engine.getKey(), shrink(engine.getKey(), engine.getValue(), schedule, caseSeed));
+                }
+            }
+            cases++;
+        }
+        return new Report(seed, cases, new ArrayList<>(divergences.values()));
+    }
+
+    /**
+     * Greedily replace the diverging schedule by its first simpler variant that still diverges, until none does
+     */
+    private Divergence shrink(final String name, final Engine engine,
+                              final Map<DayOfWeek, List<OpeningHourEvent>> schedule, final long seed) {
+        Map<DayOfWeek, List<OpeningHourEvent>> minimal = schedule;
+        for (int step = 0; step < MAX_SHRINK_STEPS; step++) {
+            Map<DayOfWeek, List<OpeningHourEvent>> simpler = null;
+            for (Map<DayOfWeek, List<OpeningHourEvent>> candidate : ScheduleGenerator.shrink(minimal)) {
+                if (diverges(engine, candidate, seed, Outcome.of(reference, candidate, seed))) {
+                    simpler = candidate;
+                    break;
+                }
+            }
+            if (simpler == null) {
+                break;
+            }
+            minimal = simpler;
+        }
+        return new Divergence(name, seed, minimal, Outcome.of(reference, minimal, seed),
+                Outcome.of(engine, minimal, seed));
+    }
+
+    private boolean diverges(final Engine engine, final Map<DayOfWeek, List<OpeningHourEvent>> schedule,
+                             final long seed, final Outcome expected) {
+        final Outcome actual = Outcome.of(engine, schedule, seed);
+        return !actual.isSkipped() && !actual.equals(expected);
+    }
+}
@@ -1,9 +1,8 @@
-package com.amr.assignments.openinghoursrenderer.service;
+package com.amr.assignments.openinghoursrenderer.fuzz;
 
 import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
 import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
 import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
-import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -17,8 +16,11 @@ import java.util.stream.Collectors;
 
 import static java.util.function.Predicate.not;
 
-@Service
-public class OpeningHoursParser {
+/**
+ * Frozen copy of {@code OpeningHoursParser} as originally released: the reference oracle of the differential fuzzer.
+ * Every rendering engine must reproduce its output and errors exactly, quirks included. Do not change it
+ */
+final class ReferenceOpeningHoursParser {
 
     private static DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm:ss a").withZone(ZoneId.of("UTC"));
 
@@ -0,0 +1,258 @@
+package com.amr.assignments.openinghoursrenderer.fuzz;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Random weekly opening hours, biased towards what breaks renderers: overnight periods (including Sunday to Monday),
+ * unmatched and duplicated events, o'clock and edge times, unsorted, missing and null entries. Some schedules are well
+ * formed (valid), so that engines only accepting valid input are exercised too. Also lists the simpler variants of a
+ * schedule, used to shrink a diverging input down to a minimal one
+ */
+final class ScheduleGenerator {
+
+    private static final int LAST_SECOND = 86399;
+    private static final int[] EDGE_SECONDS = {0, 1, 3599, 3600, 43199, 43200, 43260, 86340, LAST_SECOND};
+
+    private ScheduleGenerator() {}
+
+    static Map<DayOfWeek, List<OpeningHourEvent>> generate(final Random random) {
+        if (random.nextInt(100) < 30) {
+            return generateOpeningPeriods(random);
+        }
+        final Map<DayOfWeek, List<OpeningHourEvent>> schedule = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            final int kind = random.nextInt(100);
+            if (kind < 15) {
+                continue; // day not informed
+            }
+            if (kind < 18) {
+                schedule.put(day, null);
+            } else if (kind < 35) {
+                schedule.put(day, new ArrayList<>());
+            } else {
+                schedule.put(day, generateDay(random));
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * Well formed schedule: distinct open and close hours alternating along the week, the last period possibly open
+     * overnight from Sunday to Monday. Closed days are either empty or not informed
+     */
+    private static Map<DayOfWeek, List<OpeningHourEvent>> generateOpeningPeriods(final Random random) {
+        final int periods = random.nextInt(8);
+        final TreeSet<Integer> seconds = new TreeSet<>();
+        while (seconds.size() < periods * 2) {
+            seconds.add(random.nextInt(7) * (LAST_SECOND + 1) + time(random).toSecondOfDay());
+        }
+        final boolean sundayOvernight = random.nextBoolean();
+
+        final Map<DayOfWeek, List<OpeningHourEvent>> schedule = new EnumMap<>(DayOfWeek.class);
+        int index = 0;
+        for (int second : seconds) {
+            final boolean open = index++ % 2 == (sundayOvernight ? 1 : 0);
+            schedule.computeIfAbsent(DayOfWeek.values()[second / (LAST_SECOND + 1)], day -> new ArrayList<>())
+                    .add(new OpeningHourEvent(open ? OpeningHourEventType.OPEN : OpeningHourEventType.CLOSE,
+                            LocalTime.ofSecondOfDay(second % (LAST_SECOND + 1))));
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (!schedule.containsKey(day) && random.nextBoolean()) {
+                schedule.put(day, new ArrayList<>());
+            }
+        }
+        return schedule;
+    }
+
+    private static List<OpeningHourEvent> generateDay(final Random random) {
+        final int size = 1 + random.nextInt(6);
+        final List<OpeningHourEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int kind = random.nextInt(100);
+            if (kind < 2) {
+                events.add(null);
+            } else if (kind < 12 && !events.isEmpty() && events.get(events.size() - 1) != null) {
+                // same time as previous event, same or opposite type
+                final OpeningHourEvent previous = events.get(events.size() - 1);
+                events.add(new OpeningHourEvent(random.nextBoolean() ? previous.getType() : type(random),
+                        previous.getValue()));
+            } else {
+                events.add(new OpeningHourEvent(random.nextInt(100) < 2 ? null : type(random),
+                        random.nextInt(100) < 2 ? null : time(random)));
+            }
+        }
+        if (random.nextInt(100) < 70) {
+            events.sort(Comparator.nullsFirst(Comparator.comparing(OpeningHourEvent::getValue,
+                    Comparator.nullsFirst(Comparator.naturalOrder()))));
+        }
+        return events;
+    }
+
+    private static OpeningHourEventType type(final Random random) {
+        return random.nextBoolean() ? OpeningHourEventType.OPEN : OpeningHourEventType.CLOSE;
+    }
+
+    private static LocalTime time(final Random random) {
+        final int kind = random.nextInt(100);
+        final int second;
+        if (kind < 40) {
+            second = random.nextInt(24) * 3600; // o'clock
+        } else if (kind < 55) {
+            second = random.nextInt(48) * 1800;
+        } else if (kind < 70) {
+            second = EDGE_SECONDS[random.nextInt(EDGE_SECONDS.length)];
+        } else {
+            second = random.nextInt(LAST_SECOND + 1);
+        }
+        return LocalTime.ofSecondOfDay(second);
+    }
+
+    /**
+     * List simpler variants of a schedule, simplest first: without a day, with a day emptied, without an event, with
+     * an event time rounded
+     *
+     * @param schedule schedule to be shrunk
+     * @return candidate schedules, each one a single step simpler
+     */
+    static List<Map<DayOfWeek, List<OpeningHourEvent>>> shrink(final Map<DayOfWeek, List<OpeningHourEvent>> schedule) {
+        final List<Map<DayOfWeek, List<OpeningHourEvent>>> candidates = new ArrayList<>();
+        for (DayOfWeek day : schedule.keySet()) {
+            final Map<DayOfWeek, List<OpeningHourEvent>> withoutDay = copy(schedule);
+            withoutDay.remove(day);
+            candidates.add(withoutDay);
+        }
+        schedule.forEach((day, events) -> {
+            if (events != null && !events.isEmpty()) {
+                final Map<DayOfWeek, List<OpeningHourEvent>> emptied = copy(schedule);
+                emptied.put(day, new ArrayList<>());
+                candidates.add(emptied);
+            }
+        });
+        schedule.forEach((day, events) -> {
+            if (events == null) {
+                return;
+            }
+            for (int i = 0; i < events.size(); i++) {
+                final Map<DayOfWeek, List<OpeningHourEvent>> withoutEvent = copy(schedule);
+                withoutEvent.get(day).remove(i);
+                candidates.add(withoutEvent);
+            }
+            for (int i = 0; i < events.size(); i++) {
+                final OpeningHourEvent event = events.get(i);
+                if (event == null || event.getValue() == null) {
+                    continue;
+                }
+                final int second = event.getValue().toSecondOfDay();
+                final int rounded = second % 3600 != 0 ? second - second % 3600 : second > 0 ? second - 3600 : -1;
+                if (rounded >= 0) {
+                    final Map<DayOfWeek, List<OpeningHourEvent>> simpler = copy(schedule);
+                    simpler.get(day).set(i, new OpeningHourEvent(event.getType(), LocalTime.ofSecondOfDay(rounded)));
+                    candidates.add(simpler);
+                }
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Deep copy a schedule (events are copied too, so engines mutating them cannot affect each other)
+     */
+    static Map<DayOfWeek, List<OpeningHourEvent>> copy(final Map<DayOfWeek, List<OpeningHourEvent>> schedule) {
+        final Map<DayOfWeek, List<OpeningHourEvent>> copy = new EnumMap<>(DayOfWeek.class);
+        schedule.forEach((day, events) -> {
+            if (events == null) {
+                copy.put(day, null);
+                return;
+            }
+            final List<OpeningHourEvent> eventsCopy = new ArrayList<>(events.size());
+            for (OpeningHourEvent event : events) {
+                eventsCopy.add(event == null ? null : new OpeningHourEvent(event.getType(), event.getValue()));
+            }
+            copy.put(day, eventsCopy);
+        });
+        return copy;
+    }
+
+    /**
+     * Write a schedule as request JSON, with days in random order and day and type names in random case. Null fields
+     * are left out
+     *
+     * @param schedule schedule to be written
+     * @param random source of order and letter case, null for lower case days in week order (reports)
+     * @return request body
+     */
+    static String toJson(final Map<DayOfWeek, List<OpeningHourEvent>> schedule, final Random random) {
+        final StringBuilder json = new StringBuilder("{");
+        final List<DayOfWeek> days = new ArrayList<>(schedule.keySet());
+        if (random != null) {
+            Collections.shuffle(days, random);
+        }
+        for (DayOfWeek day : days) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(randomCase(day.getName(), random)).append("\":");
+            final List<OpeningHourEvent> events = schedule.get(day);
+            if (events == null) {
+                json.append("null");
+                continue;
+            }
+            json.append('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendEvent(json, events.get(i), random);
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendEvent(final StringBuilder json, final OpeningHourEvent event, final Random random) {
+        if (event == null) {
+            json.append("null");
+            return;
+        }
+        final List<String> fields = new ArrayList<>(2);
+        if (event.getType() != null) {
+            fields.add("\"type\":\"" + randomCase(event.getType().getValue(), random) + "\"");
+        }
+        if (event.getValue() != null) {
+            fields.add("\"value\":" + event.getValue().toSecondOfDay());
+        }
+        json.append('{').append(String.join(",", fields)).append('}');
+    }
+
+    private static String randomCase(final String name, final Random random) {
+        if (random == null) {
+            return name.toLowerCase();
+        }
+        switch (random.nextInt(4)) {
+            case 0:
+                return name.toUpperCase();
+            case 1:
+                return name.toLowerCase();
+            case 2:
+                return name;
+            default:
+                final StringBuilder mixed = new StringBuilder(name.length());
+                for (char c : name.toCharArray()) {
+                    mixed.append(random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+                }
+                return mixed.toString();
+        }
+    }
+}
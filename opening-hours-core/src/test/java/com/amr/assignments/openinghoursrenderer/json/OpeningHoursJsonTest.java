@@ -0,0 +1,30 @@
+package com.amr.assignments.openinghoursrenderer.json;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpeningHoursJsonTest {
+
+    @Test
+    void givenScheduleJson_whenRead_thenEventTimesReadAsSecondsOfDay() throws Exception {
+        final String json = "{\"weeklyOpeningHours\":{\"friday\":[{\"type\":\"open\",\"value\":37800}]}," +
+                "\"overrides\":{\"2026-12-25\":[{\"type\":\"CLOSE\",\"value\":3600}]}}";
+
+        final Schedule schedule = OpeningHoursJson.newObjectMapper().readValue(json, Schedule.class);
+
+        final List<OpeningHourEvent> friday = schedule.getWeeklyOpeningHours().get(DayOfWeek.FRIDAY);
+        assertThat(friday).hasSize(1);
+        assertThat(friday.get(0).getType()).isEqualTo(OpeningHourEventType.OPEN);
+        assertThat(friday.get(0).getValue()).isEqualTo(LocalTime.of(10, 30));
+        assertThat(schedule.openingHoursOn(LocalDate.of(2026, 12, 25)).get(0).getValue()).isEqualTo(LocalTime.of(1, 0));
+    }
+}
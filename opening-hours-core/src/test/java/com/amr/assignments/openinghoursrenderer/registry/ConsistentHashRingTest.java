@@ -0,0 +1,93 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10000;
+
+    @Test
+    void givenSeveralNodes_whenNodeFor_thenKeysSpreadEvenly() {
+        final ConsistentHashRing ring = ringOf(4);
+
+        final Map<String, Integer> keysPerNode = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            keysPerNode.merge(ring.nodeFor("restaurant-" + i), 1, Integer::sum);
+        }
+
+        assertThat(keysPerNode).hasSize(4);
+        keysPerNode.values().forEach(keys -> assertThat(keys).isBetween(KEYS / 4 * 3 / 4, KEYS / 4 * 5 / 4));
+    }
+
+    @Test
+    void givenJoiningNode_whenNodeFor_thenOnlyKeysOwnedByNewNodeMove() {
+        final ConsistentHashRing ring = ringOf(4);
+        final Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            before.put("restaurant-" + i, ring.nodeFor("restaurant-" + i));
+        }
+
+        ring.add("node-4");
+
+        int moved = 0;
+        for (Map.Entry<String, String> key : before.entrySet()) {
+            final String owner = ring.nodeFor(key.getKey());
+            if (!owner.equals(key.getValue())) {
+                assertThat(owner).isEqualTo("node-4");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(KEYS / 5 * 3 / 4, KEYS / 5 * 5 / 4);
+    }
+
+    @Test
+    void givenLeavingNode_whenNodeFor_thenNoKeyOwnedByIt() {
+        final ConsistentHashRing ring = ringOf(3);
+
+        ring.remove("node-1");
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(ring.nodeFor("restaurant-" + i)).isNotEqualTo("node-1");
+        }
+        assertThat(ring.nodes()).containsExactly("node-0", "node-2");
+    }
+
+    @Test
+    void givenCollidingPoints_whenNodesJoinInAnyOrderOrLeave_thenOwnershipOnlyDependsOnMembers() {
+        // 16 points for 3 nodes of 8 virtual nodes each: most points are claimed by several nodes
+        final ToLongFunction<String> narrowHash = key -> ConsistentHashRing.hash(key) & 0xf;
+        final ConsistentHashRing forward = new ConsistentHashRing(8, narrowHash);
+        final ConsistentHashRing backward = new ConsistentHashRing(8, narrowHash);
+        final ConsistentHashRing withoutNode0 = new ConsistentHashRing(8, narrowHash);
+        for (int i = 0; i < 3; i++) {
+            forward.add("node-" + i);
+            backward.add("node-" + (2 - i));
+        }
+        withoutNode0.add("node-2");
+        withoutNode0.add("node-1");
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(forward.nodeFor("restaurant-" + i)).isEqualTo(backward.nodeFor("restaurant-" + i));
+        }
+
+        forward.remove("node-0");
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(forward.nodeFor("restaurant-" + i)).isEqualTo(withoutNode0.nodeFor("restaurant-" + i));
+        }
+    }
+
+    private ConsistentHashRing ringOf(final int nodes) {
+        final ConsistentHashRing ring = new ConsistentHashRing(128);
+        for (int i = 0; i < nodes; i++) {
+            ring.add("node-" + i);
+        }
+        return ring;
+    }
+}
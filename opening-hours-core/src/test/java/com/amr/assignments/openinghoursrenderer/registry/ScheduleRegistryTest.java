@@ -0,0 +1,74 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.CLOSE;
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleRegistryTest {
+
+    private ScheduleRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new ScheduleRegistry(new ScheduleAlgebra(new OpeningHoursParser()));
+    }
+
+    @Test
+    void givenStoredSchedule_whenFind_thenCompiledCopyReturned() {
+        final List<OpeningHourEvent> friday = new ArrayList<>(List.of(
+                new OpeningHourEvent(OPEN, LocalTime.of(10, 0)),
+                new OpeningHourEvent(CLOSE, LocalTime.of(18, 0))));
+        registry.put("branch-1", Map.of(DayOfWeek.FRIDAY, friday));
+        friday.clear();
+
+        final ScheduleRegistry.RegisteredSchedule schedule = registry.find("branch-1").orElseThrow();
+
+        assertThat(schedule.getWeeklyOpeningHours().get(DayOfWeek.FRIDAY)).hasSize(2);
+        assertThat(schedule.getIntervals()).isEqualTo(new WeeklyIntervals(
+                new int[]{4 * 86400 + 36000}, new int[]{4 * 86400 + 64800}));
+    }
+
+    @Test
+    void givenRemovedSchedule_whenFind_thenEmpty() {
+        registry.put("branch-1", Map.of());
+
+        assertThat(registry.remove("branch-1")).isTrue();
+        assertThat(registry.remove("branch-1")).isFalse();
+        assertThat(registry.find("branch-1")).isEmpty();
+        assertThat(registry.size()).isEqualTo(0);
+    }
+
+    @Test
+    void givenStoredSchedules_whenHeatmap_thenRestaurantsOpenAtStartOfEverySlot() {
+        registry.put("branch-1", Map.of(DayOfWeek.FRIDAY, List.of(
+                new OpeningHourEvent(OPEN, LocalTime.of(10, 0)),
+                new OpeningHourEvent(CLOSE, LocalTime.of(18, 0)))));
+        registry.put("branch-2", Map.of(DayOfWeek.SUNDAY, List.of(new OpeningHourEvent(OPEN, LocalTime.of(22, 0))),
+                DayOfWeek.MONDAY, List.of(new OpeningHourEvent(CLOSE, LocalTime.of(2, 0)))));
+
+        final int[] expected = new int[7 * 24];
+        for (int hour = 4 * 24 + 10; hour < 4 * 24 + 18; hour++) {
+            expected[hour] = 1;
+        }
+        expected[6 * 24 + 22] = 1;
+        expected[6 * 24 + 23] = 1;
+        expected[0] = 1;
+        expected[1] = 1;
+
+        assertThat(registry.heatmap(3600)).isEqualTo(expected);
+        assertThat(registry.openAt(DayOfWeek.MONDAY, LocalTime.of(1, 0))).containsExactly("branch-2");
+    }
+}
@@ -0,0 +1,118 @@
+package com.amr.assignments.openinghoursrenderer.registry;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.ScheduleAlgebra;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.CLOSE;
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardedScheduleRegistryTest {
+
+    private static final int RESTAURANTS = 300;
+
+    private final ScheduleAlgebra scheduleAlgebra = new ScheduleAlgebra(new OpeningHoursParser());
+    private ExecutorService executor;
+    private ShardedScheduleRegistry registry;
+    private ScheduleRegistry reference;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        registry = new ShardedScheduleRegistry(64, executor);
+        reference = new ScheduleRegistry(scheduleAlgebra);
+        for (int i = 0; i < 3; i++) {
+            registry.addNode(new LocalScheduleNode("node-" + i, scheduleAlgebra));
+        }
+        for (int i = 0; i < RESTAURANTS; i++) {
+            // opens on the hour, between 6 AM and 5 PM, for 2 to 13 hours
+            final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours = Map.of(
+                    DayOfWeek.values()[i % 7], List.of(
+                            new OpeningHourEvent(OPEN, LocalTime.of(6 + i % 12, 0)),
+                            new OpeningHourEvent(CLOSE, LocalTime.of((6 + i % 12 + 2 + i % 12) % 24, 0))));
+            registry.put("restaurant-" + i, weeklyOpeningHours);
+            reference.put("restaurant-" + i, weeklyOpeningHours);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenSeveralNodes_whenQueryCatalog_thenSameResultsAsSingleRegistry() {
+        assertThat(registry.size()).isEqualTo(RESTAURANTS);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (int hour = 0; hour < 24; hour++) {
+                assertThat(registry.openAt(day, LocalTime.of(hour, 30)))
+                        .isEqualTo(reference.openAt(day, LocalTime.of(hour, 30)));
+            }
+        }
+        assertThat(registry.heatmap(3600)).isEqualTo(reference.heatmap(3600));
+    }
+
+    @Test
+    void givenSeveralNodes_whenQueryCatalog_thenOneNodeQueriedOnCallerThread() {
+        final AtomicInteger submitted = new AtomicInteger();
+        final ShardedScheduleRegistry counted = new ShardedScheduleRegistry(64, task -> {
+            submitted.incrementAndGet();
+            executor.execute(task);
+        });
+        for (int i = 0; i < 3; i++) {
+            counted.addNode(new LocalScheduleNode("node-" + i, scheduleAlgebra));
+        }
+        counted.put("restaurant-0", Map.of(DayOfWeek.MONDAY, List.of(
+                new OpeningHourEvent(OPEN, LocalTime.of(9, 0)), new OpeningHourEvent(CLOSE, LocalTime.of(17, 0)))));
+
+        assertThat(counted.size()).isEqualTo(1);
+        assertThat(counted.openAt(DayOfWeek.MONDAY, LocalTime.of(12, 0))).containsExactly("restaurant-0");
+        assertThat(submitted.get()).isEqualTo(4);
+    }
+
+    @Test
+    void givenRestaurantId_whenFindOrRemove_thenRoutedToOwnerNode() {
+        final String owner = registry.nodeFor("restaurant-7");
+
+        assertThat(registry.find("restaurant-7")).isPresent();
+        assertThat(registry.removeNode(owner)).isPositive();
+        assertThat(registry.getNodeIds()).doesNotContain(owner);
+        assertThat(registry.find("restaurant-7")).isPresent();
+        assertThat(registry.remove("restaurant-7")).isTrue();
+        assertThat(registry.find("restaurant-7")).isEmpty();
+    }
+
+    @Test
+    void givenJoiningAndLeavingNodes_whenRebalance_thenEverySchedulePreservedAndOnlyAFractionMoved() {
+        final int movedOnJoin = registry.addNode(new LocalScheduleNode("node-3", scheduleAlgebra));
+
+        assertThat(movedOnJoin).isBetween(RESTAURANTS / 8, RESTAURANTS / 2);
+        assertThat(registry.size()).isEqualTo(RESTAURANTS);
+
+        final int movedOnLeave = registry.removeNode("node-0");
+
+        assertThat(movedOnLeave).isBetween(RESTAURANTS / 8, RESTAURANTS / 2);
+        assertThat(registry.size()).isEqualTo(RESTAURANTS);
+        final List<String> missing = new ArrayList<>();
+        for (int i = 0; i < RESTAURANTS; i++) {
+            if (registry.find("restaurant-" + i).isEmpty()) {
+                missing.add("restaurant-" + i);
+            }
+        }
+        assertThat(missing).isEmpty();
+        assertThat(registry.heatmap(3600)).isEqualTo(reference.heatmap(3600));
+    }
+}
@@ -0,0 +1,68 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.OpeningInterval;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarExporterTest {
+
+    private static final OpeningInterval OVERNIGHT_INTERVAL = new OpeningInterval(
+            LocalDateTime.of(2026, 12, 27, 20, 0), LocalDateTime.of(2026, 12, 28, 1, 0));
+
+    private CalendarExporter exporter;
+
+    @BeforeEach
+    public void setup() {
+        exporter = new CalendarExporter(new ObjectMapper(),
+                Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void givenOpeningIntervals_whenWriteICalendar_thenOneEventPerInterval() throws Exception {
+        final StringWriter writer = new StringWriter();
+
+        exporter.writeICalendar(Stream.of(OVERNIGHT_INTERVAL), "Pizza, Pasta; Bar", writer);
+
+        final String actual = writer.toString();
+
+        assertThat(actual).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+        assertThat(actual).contains("BEGIN:VEVENT\r\n",
+                "DTSTAMP:20261019T120000Z\r\n",
+                "DTSTART:20261227T200000\r\n",
+                "DTEND:20261228T010000\r\n",
+                "SUMMARY:Pizza\\, Pasta\\; Bar\r\n");
+        assertThat(actual).endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n");
+    }
+
+    @Test
+    void givenNoOpeningIntervals_whenWriteICalendar_thenEmptyCalendar() throws Exception {
+        final StringWriter writer = new StringWriter();
+
+        exporter.writeICalendar(Stream.empty(), null, writer);
+
+        assertThat(writer.toString()).doesNotContain("BEGIN:VEVENT");
+    }
+
+    @Test
+    void givenOpeningIntervals_whenWriteJson_thenArrayOfIsoIntervals() throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exporter.writeJson(Stream.of(OVERNIGHT_INTERVAL), outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                .isEqualTo("[{\"start\":\"2026-12-27T20:00:00\",\"end\":\"2026-12-28T01:00:00\"}]");
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningInterval;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.CLOSE;
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EffectiveScheduleServiceTest {
+
+    private static final LocalDate CHRISTMAS = LocalDate.of(2026, 12, 25); // Friday
+    private static final LocalDate BOXING_DAY = LocalDate.of(2026, 12, 26); // Saturday
+
+    private EffectiveScheduleService service;
+
+    @BeforeEach
+    public void setup() {
+        service = new EffectiveScheduleService(new OpeningHoursParser());
+    }
+
+    @Test
+    void givenNoOverrides_whenRender_thenWeeklyOpeningHoursOfEachDate() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                ),
+
+                DayOfWeek.SATURDAY,
+                Collections.emptyList()
+        ), null);
+
+        final String actual = service.render(schedule, CHRISTMAS, 2);
+
+        final String expected = "Friday 2026-12-25: 10 AM - 6 PM" + System.lineSeparator() +
+                                "Saturday 2026-12-26: Closed";
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void givenClosedOverride_whenRender_thenClosedOnThatDateOnly() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ), Map.of(CHRISTMAS, Collections.emptyList()));
+
+        final String actual = service.render(schedule, CHRISTMAS, 8);
+
+        final String expected = "Friday 2026-12-25: Closed" + System.lineSeparator() +
+                                "Friday 2027-01-01: 10 AM - 6 PM";
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void givenOvernightOverride_whenRender_thenCloseHourTakenFromNextWeeklyDay() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                ),
+
+                DayOfWeek.SATURDAY,
+                List.of(openingHourOf(CLOSE, 3600L), // 01:00
+                        openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ), Map.of(CHRISTMAS, List.of(openingHourOf(OPEN, 72000L)))); // 20:00
+
+        final String actual = service.render(schedule, CHRISTMAS, 2);
+
+        final String expected = "Friday 2026-12-25: 8 PM - 1 AM" + System.lineSeparator() +
+                                "Saturday 2026-12-26: 10 AM - 6 PM";
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void givenOverrideOnNextDate_whenRender_thenOvernightCloseHourTakenFromOverride() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 72000L)) // 20:00
+        ), Map.of(BOXING_DAY, List.of(openingHourOf(CLOSE, 7200L)))); // 02:00
+
+        final String actual = service.render(schedule, CHRISTMAS, 1);
+
+        assertThat(actual).isEqualTo("Friday 2026-12-25: 8 PM - 2 AM");
+    }
+
+    @Test
+    void givenOvernightPeriodBeforeClosedOverride_whenResolved_thenWeeklyCloseHourKept() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.THURSDAY,
+                List.of(openingHourOf(OPEN, 64800L)), // 18:00
+
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(CLOSE, 7200L), // 02:00
+                        openingHourOf(OPEN, 64800L) // 18:00
+                ),
+
+                DayOfWeek.SATURDAY,
+                List.of(openingHourOf(CLOSE, 7200L)) // 02:00
+        ), Map.of(CHRISTMAS, Collections.emptyList()));
+        final LocalDate christmasEve = CHRISTMAS.minusDays(1);
+
+        final String expected = "Thursday 2026-12-24: 6 PM - 2 AM" + System.lineSeparator() +
+                                "Friday 2026-12-25: Closed";
+
+        assertThat(service.render(schedule, christmasEve, 2)).isEqualTo(expected);
+        assertThat(service.isOpenAt(schedule, christmasEve.atTime(20, 0))).isTrue();
+        assertThat(service.isOpenAt(schedule, CHRISTMAS.atTime(1, 0))).isTrue();
+        assertThat(service.isOpenAt(schedule, CHRISTMAS.atTime(20, 0))).isFalse();
+        assertThat(service.expand(schedule, christmasEve, 2).collect(Collectors.toList())).containsExactly(
+                new OpeningInterval(LocalDateTime.of(2026, 12, 24, 18, 0), LocalDateTime.of(2026, 12, 25, 2, 0)));
+    }
+
+    @Test
+    void givenOvernightPeriod_whenIsOpenAt_thenOpenAfterMidnightOfNextDate() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 72000L)), // 20:00
+
+                DayOfWeek.SATURDAY,
+                List.of(openingHourOf(CLOSE, 3600L)) // 01:00
+        ), null);
+
+        assertThat(service.isOpenAt(schedule, CHRISTMAS.atTime(19, 59))).isFalse();
+        assertThat(service.isOpenAt(schedule, CHRISTMAS.atTime(20, 0))).isTrue();
+        assertThat(service.isOpenAt(schedule, BOXING_DAY.atTime(0, 30))).isTrue();
+        assertThat(service.isOpenAt(schedule, BOXING_DAY.atTime(1, 0))).isFalse();
+    }
+
+    @Test
+    void givenClosedOverride_whenIsOpenAt_thenClosedOnlyOnThatDate() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ), Map.of(CHRISTMAS, Collections.emptyList()));
+
+        assertThat(service.isOpenAt(schedule, CHRISTMAS.atTime(12, 0))).isFalse();
+        assertThat(service.isOpenAt(schedule, LocalDateTime.of(2027, 1, 1, 12, 0))).isTrue();
+    }
+
+    @Test
+    void givenSundayOvernightPeriod_whenExpand_thenSingleIntervalEndingOnNextMonday() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.MONDAY,
+                List.of(openingHourOf(CLOSE, 3600L), // 01:00
+                        openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                ),
+
+                DayOfWeek.SUNDAY,
+                List.of(openingHourOf(OPEN, 72000L)) // 20:00
+        ), null);
+
+        final List<OpeningInterval> actual = service.expand(schedule, LocalDate.of(2026, 12, 27), 2)
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactly(
+                new OpeningInterval(LocalDateTime.of(2026, 12, 27, 20, 0), LocalDateTime.of(2026, 12, 28, 1, 0)),
+                new OpeningInterval(LocalDateTime.of(2026, 12, 28, 10, 0), LocalDateTime.of(2026, 12, 28, 18, 0)));
+    }
+
+    @Test
+    void givenClosedOverride_whenExpand_thenNoIntervalOnThatDate() {
+        Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ), Map.of(CHRISTMAS, Collections.emptyList()));
+
+        final List<OpeningInterval> actual = service.expand(schedule, CHRISTMAS, 14).collect(Collectors.toList());
+
+        assertThat(actual).containsExactly(
+                new OpeningInterval(LocalDateTime.of(2027, 1, 1, 10, 0), LocalDateTime.of(2027, 1, 1, 18, 0)));
+    }
+
+    private OpeningHourEvent openingHourOf(final OpeningHourEventType type, final Long secondOfDay) {
+        return new OpeningHourEvent(type, LocalTime.ofSecondOfDay(secondOfDay));
+    }
+
+}
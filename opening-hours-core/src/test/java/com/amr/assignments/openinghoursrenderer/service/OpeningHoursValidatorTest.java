@@ -0,0 +1,228 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationError;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.CLOSE;
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.OPEN;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.CLOSE_BEFORE_OPEN;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.DUPLICATE_DAY;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.DUPLICATE_EVENT;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.INVALID_DAY;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.INVALID_TIME;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.INVALID_TYPE;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.MISSING_TIME;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.OUT_OF_RANGE_SECONDS;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.UNMATCHED_CLOSE;
+import static com.amr.assignments.openinghoursrenderer.domain.ValidationErrorCode.UNMATCHED_OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpeningHoursValidatorTest {
+
+    private OpeningHoursValidator validator;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setup() {
+        validator = new OpeningHoursValidator();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void givenCompleteWeek_whenValidate_thenValidAndRenderable() throws Exception {
+        final String json = "{\"monday\":[]," +
+                "\"tuesday\":[{\"type\":\"open\",\"value\":36000},{\"type\":\"close\",\"value\":64800}]," +
+                "\"friday\":[{\"type\":\"open\",\"value\":36000}]," +
+                "\"saturday\":[{\"type\":\"close\",\"value\":3600},{\"type\":\"open\",\"value\":36000}]," +
+                "\"sunday\":[{\"type\":\"close\",\"value\":3600},{\"type\":\"open\",\"value\":43200},{\"type\":\"close\",\"value\":75600}]}";
+
+        final ValidationResult result = validator.validate(objectMapper.readTree(json));
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(new OpeningHoursParser().parse(result.getWeeklyOpeningHours())).isEqualTo(
+                "Monday: Closed" + System.lineSeparator() +
+                "Tuesday: 10 AM - 6 PM" + System.lineSeparator() +
+                "Friday: 10 AM - 1 AM" + System.lineSeparator() +
+                "Saturday: 10 AM - 1 AM" + System.lineSeparator() +
+                "Sunday: 12 PM - 9 PM");
+    }
+
+    @Test
+    void givenSeveralInvalidEvents_whenValidate_thenEveryErrorReportedWithDayAndPosition() throws Exception {
+        final String json = "{\"bla\":[]," +
+                "\"monday\":[{\"type\":\"bla\",\"value\":3600},{\"type\":\"open\",\"value\":-1}," +
+                "{\"type\":\"close\",\"value\":999999999},{\"type\":\"close\"},{\"type\":\"open\",\"value\":\"10am\"}]}";
+
+        final ValidationResult result = validator.validate(objectMapper.readTree(json));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getWeeklyOpeningHours()).isNull();
+        assertThat(result.getErrors()).containsExactly(
+                new ValidationError(INVALID_DAY, "bla", null),
+                new ValidationError(INVALID_TYPE, "monday", 0),
+                new ValidationError(OUT_OF_RANGE_SECONDS, "monday", 1),
+                new ValidationError(OUT_OF_RANGE_SECONDS, "monday", 2),
+                new ValidationError(MISSING_TIME, "monday", 3),
+                new ValidationError(INVALID_TIME, "monday", 4));
+    }
+
+    @Test
+    void givenSameDayInformedTwice_whenValidate_thenDuplicateDay() throws Exception {
+        final ValidationResult result = validator.validate(objectMapper.readTree("{\"monday\":[],\"MONDAY\":[]}"));
+
+        assertThat(result.getErrors()).containsExactly(new ValidationError(DUPLICATE_DAY, "MONDAY", null));
+    }
+
+    @Test
+    void givenDuplicateEvent_whenValidate_thenDuplicateEvent() {
+        final ValidationResult result = validator.validate(Map.of(
+                DayOfWeek.MONDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L), // 18:00
+                        openingHourOf(OPEN, 36000L) // 10:00
+                )
+        ));
+
+        assertThat(result.getErrors()).containsExactly(new ValidationError(DUPLICATE_EVENT, "Monday", 2));
+    }
+
+    @Test
+    void givenLastOpenHourBeforeLastCloseHour_whenValidate_thenUnmatchedOpen() {
+        final ValidationResult result = validator.validate(Map.of(
+                DayOfWeek.THURSDAY,
+                List.of(openingHourOf(OPEN, 0L), // 00:00
+                        openingHourOf(OPEN, 3600L), // 01:00
+                        openingHourOf(CLOSE, 86399L) // 23:59:59
+                )
+        ));
+
+        assertThat(result.getErrors()).containsExactly(new ValidationError(UNMATCHED_OPEN, "Thursday", 1));
+    }
+
+    @Test
+    void givenOpenHourWithoutCloseHourOnNextDay_whenValidate_thenUnmatchedOpen() {
+        final ValidationResult result = validator.validate(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 72000L)), // 20:00
+
+                DayOfWeek.SATURDAY,
+                List.of()
+        ));
+
+        assertThat(result.getErrors()).containsExactly(new ValidationError(UNMATCHED_OPEN, "Friday", 0));
+    }
+
+    @Test
+    void givenCloseHourAfterClosedDay_whenValidate_thenUnmatchedClose() {
+        final ValidationResult result = validator.validate(Map.of(
+                DayOfWeek.FRIDAY,
+                List.of(),
+
+                DayOfWeek.SATURDAY,
+                List.of(openingHourOf(CLOSE, 3600L), // 01:00
+                        openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ));
+
+        assertThat(result.getErrors()).containsExactly(new ValidationError(UNMATCHED_CLOSE, "Saturday", 0));
+    }
+
+    @Test
+    void givenCloseHourBeforeOpenHourInFirstPeriod_whenValidate_thenCloseBeforeOpen() {
+        final ValidationResult result = validator.validate(Map.of(
+                DayOfWeek.MONDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 32400L), // 09:00
+                        openingHourOf(OPEN, 50400L), // 14:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ));
+
+        assertThat(result.getErrors()).containsExactly(new ValidationError(CLOSE_BEFORE_OPEN, "Monday", 1));
+    }
+
+    @Test
+    void givenCloseHourEarlyMorningSpecifiedOnTheSameDay_whenValidate_thenValid() {
+        final ValidationResult result = validator.validate(Map.of(
+                DayOfWeek.MONDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 3600L) // 01:00
+                )
+        ));
+
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    void givenDayWithNullEventsOnly_whenValidate_thenRenderedAsInformed() throws Exception {
+        final String json = "{\"monday\":[null],\"tuesday\":[]}";
+
+        final ValidationResult result = validator.validate(objectMapper.readTree(json));
+
+        assertThat(result.isValid()).isTrue();
+        // no events rendered for Monday, unlike a closed day
+        assertThat(new OpeningHoursParser().parse(result.getWeeklyOpeningHours())).isEqualTo("Tuesday: Closed");
+    }
+
+    @Test
+    void givenClosedOverrideAfterOvernightPeriod_whenValidateSchedule_thenValid() {
+        final Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.THURSDAY,
+                List.of(openingHourOf(OPEN, 64800L)), // 18:00
+
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(CLOSE, 7200L)) // 02:00
+        ), Map.of(LocalDate.of(2026, 12, 25), List.of()));
+
+        assertThat(validator.validate(schedule).isValid()).isTrue();
+    }
+
+    @Test
+    void givenInvalidOverrides_whenValidateSchedule_thenErrorsReportedWithDate() {
+        final Schedule schedule = new Schedule(Map.of(
+                DayOfWeek.MONDAY,
+                List.of(openingHourOf(OPEN, 72000L)), // 20:00
+
+                DayOfWeek.FRIDAY,
+                List.of(openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                )
+        ), Map.of(
+                // Thursday: no close hour on the next (weekly) day
+                LocalDate.of(2026, 12, 24), List.of(openingHourOf(OPEN, 72000L)), // 20:00
+
+                // Saturday: no overnight period opened on the previous (weekly) day
+                LocalDate.of(2026, 12, 26),
+                List.of(openingHourOf(CLOSE, 3600L), // 01:00
+                        openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                ),
+
+                LocalDate.of(2026, 12, 28), List.of(new OpeningHourEvent(OPEN, null))
+        ));
+
+        assertThat(validator.validate(schedule).getErrors()).containsExactly(
+                new ValidationError(UNMATCHED_OPEN, "Monday", 0),
+                new ValidationError(MISSING_TIME, "2026-12-28", 0),
+                new ValidationError(UNMATCHED_OPEN, "2026-12-24", 0),
+                new ValidationError(UNMATCHED_CLOSE, "2026-12-26", 0));
+    }
+
+    private OpeningHourEvent openingHourOf(final OpeningHourEventType type, final Long secondOfDay) {
+        return new OpeningHourEvent(type, LocalTime.ofSecondOfDay(secondOfDay));
+    }
+
+}
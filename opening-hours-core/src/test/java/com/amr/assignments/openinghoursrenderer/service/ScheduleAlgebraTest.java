@@ -0,0 +1,132 @@
+package com.amr.assignments.openinghoursrenderer.service;
+
+import com.amr.assignments.openinghoursrenderer.domain.DayOfWeek;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEvent;
+import com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType;
+import com.amr.assignments.openinghoursrenderer.domain.WeeklyIntervals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.CLOSE;
+import static com.amr.assignments.openinghoursrenderer.domain.OpeningHourEventType.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleAlgebraTest {
+
+    private ScheduleAlgebra algebra;
+
+    @BeforeEach
+    public void setup() {
+        algebra = new ScheduleAlgebra(new OpeningHoursParser());
+    }
+
+    @Test
+    void givenOvernightPeriods_whenCompile_thenIntervalsSplitAtEndOfWeek() {
+        final WeeklyIntervals intervals = algebra.compile(Map.of(
+                DayOfWeek.MONDAY,
+                List.of(openingHourOf(CLOSE, 3600L), // 01:00, from Sunday
+                        openingHourOf(OPEN, 36000L), // 10:00
+                        openingHourOf(CLOSE, 64800L) // 18:00
+                ),
+
+                DayOfWeek.SUNDAY,
+                List.of(openingHourOf(OPEN, 72000L)) // 20:00
+        ));
+
+        assertThat(intervals).isEqualTo(new WeeklyIntervals(
+                new int[]{0, 36000, 6 * 86400 + 72000},
+                new int[]{3600, 64800, 7 * 86400}));
+        assertThat(intervals.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(0, 30))).isTrue();
+        assertThat(intervals.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(1, 0))).isFalse();
+        assertThat(intervals.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(23, 59))).isTrue();
+    }
+
+    @Test
+    void givenBranches_whenUnionAndIntersection_thenWhenAnyAndWhenAllOpen() {
+        final WeeklyIntervals morning = algebra.compile(weekdays(28800L, 57600L)); // 8 AM - 4 PM
+        final WeeklyIntervals evening = algebra.compile(weekdays(43200L, 79200L)); // 12 PM - 10 PM
+
+        assertThat(algebra.render(algebra.union(List.of(morning, evening))))
+                .isEqualTo(everyWeekday("8 AM - 10 PM"));
+        assertThat(algebra.render(algebra.intersection(List.of(morning, evening))))
+                .isEqualTo(everyWeekday("12 PM - 4 PM"));
+    }
+
+    @Test
+    void givenThreeBranches_whenAtLeastTwo_thenOnlyWhenTwoOrMoreOpen() {
+        final List<WeeklyIntervals> branches = List.of(
+                algebra.compile(weekdays(28800L, 43200L)), // 8 AM - 12 PM
+                algebra.compile(weekdays(36000L, 57600L)), // 10 AM - 4 PM
+                algebra.compile(weekdays(50400L, 72000L))); // 2 PM - 8 PM
+
+        assertThat(algebra.render(algebra.atLeast(2, branches))).isEqualTo(everyWeekday("10 AM - 12 PM, 2 PM - 4 PM"));
+        assertThat(algebra.render(algebra.atLeast(3, branches))).isEqualTo(everyWeekday(null));
+    }
+
+    @Test
+    void givenTouchingOvernightPeriods_whenUnion_thenRenderedAsOneOvernightPeriod() {
+        final WeeklyIntervals evening = algebra.compile(Map.of(
+                DayOfWeek.SUNDAY, List.of(openingHourOf(OPEN, 72000L)), // 20:00
+                DayOfWeek.MONDAY, List.of(openingHourOf(CLOSE, 0L)))); // 00:00
+        final WeeklyIntervals night = algebra.compile(Map.of(
+                DayOfWeek.MONDAY, List.of(openingHourOf(OPEN, 0L), openingHourOf(CLOSE, 7200L)))); // 00:00 - 02:00
+
+        final String actual = algebra.render(algebra.union(List.of(evening, night)));
+
+        assertThat(actual).startsWith("Monday: Closed" + System.lineSeparator());
+        assertThat(actual).endsWith("Sunday: 8 PM - 2 AM");
+    }
+
+    @Test
+    void givenOpenAroundTheClock_whenRender_thenOneFullDayPeriodPerDay() {
+        final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours = new EnumMap<>(DayOfWeek.class);
+        weeklyOpeningHours.put(DayOfWeek.MONDAY, List.of(openingHourOf(OPEN, 0L), openingHourOf(CLOSE, 43200L)));
+        weeklyOpeningHours.put(DayOfWeek.TUESDAY, Collections.emptyList());
+        final WeeklyIntervals mondayMorning = algebra.compile(weeklyOpeningHours);
+        final WeeklyIntervals restOfWeek = new WeeklyIntervals(new int[]{43200}, new int[]{7 * 86400});
+
+        final String actual = algebra.render(algebra.union(List.of(mondayMorning, restOfWeek)));
+
+        assertThat(actual).isEqualTo(everyDay("12 AM - 12 AM"));
+    }
+
+    private Map<DayOfWeek, List<OpeningHourEvent>> weekdays(final Long open, final Long close) {
+        final Map<DayOfWeek, List<OpeningHourEvent>> weeklyOpeningHours = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+                DayOfWeek.FRIDAY)) {
+            weeklyOpeningHours.put(day, List.of(openingHourOf(OPEN, open), openingHourOf(CLOSE, close)));
+        }
+        return weeklyOpeningHours;
+    }
+
+    private String everyWeekday(final String hours) {
+        final String weekdayHours = hours == null ? "Closed" : hours;
+        return "Monday: " + weekdayHours + System.lineSeparator() +
+                "Tuesday: " + weekdayHours + System.lineSeparator() +
+                "Wednesday: " + weekdayHours + System.lineSeparator() +
+                "Thursday: " + weekdayHours + System.lineSeparator() +
+                "Friday: " + weekdayHours + System.lineSeparator() +
+                "Saturday: Closed" + System.lineSeparator() +
+                "Sunday: Closed";
+    }
+
+    private String everyDay(final String hours) {
+        return "Monday: " + hours + System.lineSeparator() +
+                "Tuesday: " + hours + System.lineSeparator() +
+                "Wednesday: " + hours + System.lineSeparator() +
+                "Thursday: " + hours + System.lineSeparator() +
+                "Friday: " + hours + System.lineSeparator() +
+                "Saturday: " + hours + System.lineSeparator() +
+                "Sunday: " + hours;
+    }
+
+    private OpeningHourEvent openingHourOf(final OpeningHourEventType type, final Long secondOfDay) {
+        return new OpeningHourEvent(type, LocalTime.ofSecondOfDay(secondOfDay));
+    }
+}
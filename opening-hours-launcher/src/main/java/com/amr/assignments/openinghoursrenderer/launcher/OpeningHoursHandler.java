@@ -0,0 +1,226 @@
+package com.amr.assignments.openinghoursrenderer.launcher;
+
+import com.amr.assignments.openinghoursrenderer.domain.Schedule;
+import com.amr.assignments.openinghoursrenderer.domain.ValidationResult;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serve the opening hours endpoints (same contract as the Spring application) on the JDK built-in HTTP server
+ */
+class OpeningHoursHandler implements HttpHandler {
+
+    static final String CONTEXT_PATH = "/opening-hours";
+
+    private static final Logger LOGGER = Logger.getLogger(OpeningHoursHandler.class.getName());
+    private static final String TEXT_PLAIN = "text/plain;charset=UTF-8";
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final OpeningHoursParser openingHoursParser;
+    private final OpeningHoursValidator openingHoursValidator;
+    private final EffectiveScheduleService effectiveScheduleService;
+    private final ObjectMapper objectMapper;
+    private final int maxRequestBytes;
+
+    OpeningHoursHandler(final OpeningHoursParser openingHoursParser,
+                        final OpeningHoursValidator openingHoursValidator,
+                        final EffectiveScheduleService effectiveScheduleService,
+                        final ObjectMapper objectMapper,
+                        final int maxRequestBytes) {
+        this.openingHoursParser = openingHoursParser;
+        this.openingHoursValidator = openingHoursValidator;
+        this.effectiveScheduleService = effectiveScheduleService;
+        this.objectMapper = objectMapper;
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                send(exchange, 405, TEXT_PLAIN, "Method not allowed");
+                return;
+            }
+            route(exchange);
+        } catch (RequestTooLargeException e) {
+            send(exchange, 413, TEXT_PLAIN, "Whoa, that is a lot of opening hours! " + e.getMessage());
+        } catch (JsonProcessingException | DateTimeParseException | BadRequestException e) {
+            LOGGER.fine(() -> "Invalid data received: " + e.getMessage());
+            send(exchange, 400, TEXT_PLAIN, "Wait, we've got something weird here. Invalid data received!");
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unexpected error", e);
+            send(exchange, 500, TEXT_PLAIN, "Oops! Something went wrong!");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        switch (path.substring(CONTEXT_PATH.length())) {
+            case "":
+            case "/":
+                renderOpeningHours(exchange);
+                break;
+            case "/validate":
+                final JsonNode weeklyOpeningHours = objectMapper.readTree(readBody(exchange));
+                sendJson(exchange, 200, openingHoursValidator.validate(weeklyOpeningHours).getErrors());
+                break;
+            case "/schedule":
+                final LocalDate from = LocalDate.parse(required(query, "from"));
+                final int days = parseInt(query.getOrDefault("days", "7"));
+                if (days < 1) {
+                    throw new BadRequestException("invalid number of days " + days);
+                }
+                final Schedule schedule = readSchedule(exchange);
+                if (isValid(exchange, schedule)) {
+                    send(exchange, 200, TEXT_PLAIN, effectiveScheduleService.render(schedule, from, days));
+                }
+                break;
+            case "/schedule/open":
+                final LocalDateTime at = LocalDateTime.parse(required(query, "at"));
+                final Schedule openSchedule = readSchedule(exchange);
+                if (isValid(exchange, openSchedule)) {
+                    sendJson(exchange, 200, effectiveScheduleService.isOpenAt(openSchedule, at));
+                }
+                break;
+            default:
+                send(exchange, 404, TEXT_PLAIN, "Not found");
+        }
+    }
+
+    private void renderOpeningHours(final HttpExchange exchange) throws IOException {
+        final JsonNode weeklyOpeningHours = objectMapper.readTree(readBody(exchange));
+        final ValidationResult validationResult = openingHoursValidator.validate(weeklyOpeningHours);
+        if (!validationResult.isValid()) {
+            LOGGER.fine(() -> "Invalid opening hours received: " + validationResult.getErrors());
+            sendJson(exchange, 400, validationResult.getErrors());
+            return;
+        }
+        send(exchange, 200, TEXT_PLAIN, openingHoursParser.parse(validationResult.getWeeklyOpeningHours()));
+    }
+
+    /**
+     * Validate a schedule (weekly opening hours and every override), replying with every error found if invalid
+     *
+     * @return true if valid, false if already replied with BadRequest status code (400)
+     */
+    private boolean isValid(final HttpExchange exchange, final Schedule schedule) throws IOException {
+        final ValidationResult validationResult = openingHoursValidator.validate(schedule);
+        if (!validationResult.isValid()) {
+            LOGGER.fine(() -> "Invalid schedule received: " + validationResult.getErrors());
+            sendJson(exchange, 400, validationResult.getErrors());
+        }
+        return validationResult.isValid();
+    }
+
+    private Schedule readSchedule(final HttpExchange exchange) throws IOException {
+        final Schedule schedule = objectMapper.readValue(readBody(exchange), Schedule.class);
+        if (schedule == null) {
+            throw new BadRequestException("no schedule informed");
+        }
+        return schedule;
+    }
+
+    /**
+     * Read the whole request body, failing as soon as it grows beyond the configured maximum
+     */
+    private byte[] readBody(final HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            final byte[] body = in.readNBytes(maxRequestBytes + 1);
+            if (body.length > maxRequestBytes) {
+                throw new RequestTooLargeException("more than " + maxRequestBytes + " bytes informed");
+            }
+            if (body.length == 0) {
+                throw new BadRequestException("no body informed");
+            }
+            return body;
+        }
+    }
+
+    private void sendJson(final HttpExchange exchange, final int status, final Object body) throws IOException {
+        send(exchange, status, APPLICATION_JSON, objectMapper.writeValueAsBytes(body));
+    }
+
+    private void send(final HttpExchange exchange, final int status, final String contentType, final String body)
+            throws IOException {
+        send(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(final HttpExchange exchange, final int status, final String contentType, final byte[] body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static Map<String, String> parseQuery(final String rawQuery) {
+        final Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            final String name = separator < 0 ? parameter : parameter.substring(0, separator);
+            final String value = separator < 0 ? "" : parameter.substring(separator + 1);
+            query.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String required(final Map<String, String> query, final String name) {
+        final String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new BadRequestException("missing query parameter " + name);
+        }
+        return value;
+    }
+
+    private static int parseInt(final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("invalid number " + value);
+        }
+    }
+
+    private static class BadRequestException extends RuntimeException {
+
+        BadRequestException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static class RequestTooLargeException extends RuntimeException {
+
+        RequestTooLargeException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.amr.assignments.openinghoursrenderer.launcher;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.logging.Logger;
+
+/**
+ * Start the opening hours renderer on the JDK built-in HTTP server. Settings are read from system properties:
+ * <ul>
+ *     <li><code>opening-hours.port</code> (default 8080)</li>
+ *     <li><code>opening-hours.threads</code> (default one per available processor)</li>
+ *     <li><code>opening-hours.max-request-bytes</code> (default 1 MiB)</li>
+ * </ul>
+ */
+public class OpeningHoursLauncher {
+
+    private static final Logger LOGGER = Logger.getLogger(OpeningHoursLauncher.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        final int port = Integer.getInteger("opening-hours.port", 8080);
+        final int threads = Integer.getInteger("opening-hours.threads", Runtime.getRuntime().availableProcessors());
+        final int maxRequestBytes = Integer.getInteger("opening-hours.max-request-bytes", 1024 * 1024);
+
+        final OpeningHoursServer server = new OpeningHoursServer(new InetSocketAddress(port), threads, maxRequestBytes);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "opening-hours-shutdown"));
+        server.start();
+        LOGGER.info(() -> "Opening hours renderer listening on port " + server.getPort());
+    }
+}
@@ -0,0 +1,72 @@
+package com.amr.assignments.openinghoursrenderer.launcher;
+
+import com.amr.assignments.openinghoursrenderer.json.OpeningHoursJson;
+import com.amr.assignments.openinghoursrenderer.service.EffectiveScheduleService;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursParser;
+import com.amr.assignments.openinghoursrenderer.service.OpeningHoursValidator;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opening hours renderer served by the JDK built-in HTTP server on a fixed worker pool, with no container or
+ * dependency injection framework around it
+ */
+public class OpeningHoursServer {
+
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+
+    /**
+     * Bind the server (not started yet)
+     *
+     * @param address address to listen on (port 0 picks a free port)
+     * @param threads number of worker threads
+     * @param maxRequestBytes biggest request body accepted, larger ones are rejected with status code 413
+     */
+    public OpeningHoursServer(final InetSocketAddress address, final int threads, final int maxRequestBytes)
+            throws IOException {
+        if (threads < 1 || maxRequestBytes < 1) {
+            throw new IllegalArgumentException("invalid server settings");
+        }
+
+        final OpeningHoursParser openingHoursParser = new OpeningHoursParser();
+        final OpeningHoursHandler handler = new OpeningHoursHandler(openingHoursParser, new OpeningHoursValidator(),
+                new EffectiveScheduleService(openingHoursParser), OpeningHoursJson.newObjectMapper(), maxRequestBytes);
+
+        this.executor = Executors.newFixedThreadPool(threads, workerThreadFactory());
+        this.httpServer = HttpServer.create(address, 0);
+        this.httpServer.createContext(OpeningHoursHandler.CONTEXT_PATH, handler);
+        this.httpServer.setExecutor(executor);
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stop accepting requests, waiting up to a second for in-flight ones to complete
+     */
+    public void stop() {
+        httpServer.stop(1);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "opening-hours-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.amr.assignments.openinghoursrenderer.launcher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpeningHoursServerTest {
+
+    private OpeningHoursServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new OpeningHoursServer(new InetSocketAddress("localhost", 0), 2, 1024);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void givenValidOpeningHours_whenPost_thenRenderedOpeningHours() throws Exception {
+        final HttpResponse<String> response = post("/opening-hours", "{\"MONDAY\":[]," +
+                "\"FRIDAY\":[{\"type\":\"OPEN\",\"value\":36000}]," +
+                "\"SATURDAY\":[{\"type\":\"CLOSE\",\"value\":3600}]}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("Monday: Closed" + System.lineSeparator() + "Friday: 10 AM - 1 AM");
+    }
+
+    @Test
+    void givenInvalidOpeningHours_whenPost_thenEveryValidationError() throws Exception {
+        final HttpResponse<String> response = post("/opening-hours",
+                "{\"MONDAY\":[{\"type\":\"bla\",\"value\":3600},{\"type\":\"open\",\"value\":-1}]}");
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).contains("\"code\":\"INVALID_TYPE\"").contains("\"code\":\"OUT_OF_RANGE_SECONDS\"");
+    }
+
+    @Test
+    void givenMalformedJson_whenPost_thenBadRequest() throws Exception {
+        final HttpResponse<String> response = post("/opening-hours", "{\"MONDAY\":[");
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).isEqualTo("Wait, we've got something weird here. Invalid data received!");
+    }
+
+    @Test
+    void givenScheduleWithOverride_whenPostSchedule_thenEffectiveOpeningHours() throws Exception {
+        final HttpResponse<String> response = post("/opening-hours/schedule?from=2026-12-25&days=8",
+                "{\"weeklyOpeningHours\":" +
+                "{\"friday\":[{\"type\":\"open\",\"value\":36000},{\"type\":\"close\",\"value\":64800}]}," +
+                "\"overrides\":{\"2026-12-25\":[]}}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("Friday 2026-12-25: Closed" + System.lineSeparator() +
+                "Friday 2027-01-01: 10 AM - 6 PM");
+    }
+
+    @Test
+    void givenInvalidOverride_whenPostSchedule_thenEveryValidationError() throws Exception {
+        final HttpResponse<String> response = post("/opening-hours/schedule/open?at=2026-12-24T20:00",
+                "{\"weeklyOpeningHours\":{\"friday\":[]}," +
+                "\"overrides\":{\"2026-12-24\":[{\"type\":\"open\",\"value\":64800}]}}");
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).contains("\"code\":\"UNMATCHED_OPEN\"").contains("\"day\":\"2026-12-24\"");
+    }
+
+    @Test
+    void givenTooLargeBody_whenPost_thenPayloadTooLarge() throws Exception {
+        final HttpResponse<String> response = post("/opening-hours", "{\"MONDAY\":[" + " ".repeat(2048) + "]}");
+
+        assertThat(response.statusCode()).isEqualTo(413);
+    }
+
+    @Test
+    void givenGet_whenRequest_thenMethodNotAllowed() throws Exception {
+        final HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/opening-hours")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(405);
+    }
+
+    private HttpResponse<String> post(final String path, final String body) throws Exception {
+        final HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}